@@ -43,20 +43,71 @@ public isolated client class Client {
         'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
     } external;
 
-    // remote function writeBlocksFromStream(stream<byte[]> dataStream) returns Error? { }
+    # Sends the blocks of the given stream to the connected remote host. The blocks are written one after the other
+    # without waiting for each of them to be sent, and the call returns once all of them are sent.
+    # ```ballerina
+    # tcp:Error? result = socketClient->writeBlocksFromStream(dataStream);
+    # ```
+    #
+    # + dataStream - The stream of blocks that need to be sent to the connected remote host
+    # + return - `()` or else a `tcp:Error` if the blocks cannot be read from the stream or cannot be sent
+    isolated remote function writeBlocksFromStream(stream<byte[], error?> dataStream) returns Error? {
+        BlockWriter blockWriter = new (self);
+        record {|byte[] value;|}|error? block = dataStream.next();
+        while block is record {|byte[] value;|} {
+            // Stops reading the stream once a previous block could not be sent
+            if blockWriter.write(block.value) is Error {
+                break;
+            }
+            block = dataStream.next();
+        }
+        Error? result = blockWriter.complete();
+        if block is error {
+            return error Error(string `Failed to read the data stream: ${block.message()}`, block);
+        }
+        return result;
+    }
 
     # Reads data only from the connected remote host. 
     # ```ballerina
     # (readonly & byte[])|tcp:Error result = socketClient->readBytes();
     # ```
     #
+    # + length - The exact number of bytes to be read. If this is not set, the data available is returned as it is
     # + return - The `readonly & byte[]` or else a `tcp:Error` if the data cannot be read from the remote host
-    isolated remote function readBytes() returns (readonly & byte[])|Error = @java:Method {
+    isolated remote function readBytes(int? length = ()) returns (readonly & byte[])|Error = @java:Method {
         name: "externReadBytes",
         'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
     } external;
 
-    // remote function readBlocksAsStream() returns stream<byte[]>|Error { }
+    # Reads data from the connected remote host into the given array, without allocating a new array.
+    # ```ballerina
+    # tcp:Error? result = socketClient->readInto(buffer, 0, 16);
+    # ```
+    #
+    # + buffer - The array to be filled with the data
+    # + offset - The index of the array from which the data is filled
+    # + length - The exact number of bytes to be read. If this is not set, the array is filled up to its end
+    # + return - `()` or else a `tcp:Error` if the data cannot be read from the remote host
+    isolated remote function readInto(byte[] buffer, int offset = 0, int? length = ()) returns Error? = @java:Method {
+        name: "externReadInto",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+
+    # Reads data from the connected remote host as a stream of blocks. Each block is the data available when it is
+    # requested, and the stream ends once the remote host closes the connection.
+    # ```ballerina
+    # stream<readonly & byte[], tcp:Error?> blockStream = check socketClient->readBlocksAsStream();
+    # ```
+    #
+    # + readAhead - The number of reads made ahead of the stream, so that the next block is usually received by the
+    # time it is requested. The data read ahead is bounded by this number of receive buffers
+    # + return - The stream of blocks or else a `tcp:Error` if the stream cannot be created
+    isolated remote function readBlocksAsStream(int readAhead = 1) returns stream<readonly & byte[], Error?>|Error {
+        check externSetReadAhead(self, readAhead);
+        stream<readonly & byte[], Error?> blockStream = new (new BlockStream(self));
+        return blockStream;
+    }
 
     # Frees up the occupied socket.
     # ```ballerina
@@ -76,6 +127,57 @@ public isolated client class Client {
     } external;
 }
 
+isolated class BlockStream {
+
+    private final Client socketClient;
+
+    isolated function init(Client socketClient) {
+        self.socketClient = socketClient;
+    }
+
+    public isolated function next() returns record {|readonly & byte[] value;|}|Error? {
+        (readonly & byte[])? block = check externReadBlock(self.socketClient);
+        return block is () ? () : {value: block};
+    }
+
+    public isolated function close() returns Error? {
+        // Stops reading ahead, while the connection is left open for the other reads
+        return externSetReadAhead(self.socketClient, 0);
+    }
+}
+
+isolated class BlockWriter {
+
+    isolated function init(Client socketClient) {
+        externInitBlockWriter(self, socketClient);
+    }
+
+    isolated function write(byte[] block) returns Error? = @java:Method {
+        name: "externWriteBlock",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+
+    isolated function complete() returns Error? = @java:Method {
+        name: "externCompleteBlockWrites",
+        'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+    } external;
+}
+
+isolated function externInitBlockWriter(BlockWriter blockWriter, Client socketClient) = @java:Method {
+    name: "externInitBlockWriter",
+    'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+} external;
+
+isolated function externReadBlock(Client socketClient) returns (readonly & byte[])|Error? = @java:Method {
+    name: "externReadBlock",
+    'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+} external;
+
+isolated function externSetReadAhead(Client socketClient, int readAhead) returns Error? = @java:Method {
+    name: "externSetReadAhead",
+    'class: "io.ballerina.stdlib.tcp.nativeclient.Client"
+} external;
+
 # Configurations for the connection-oriented TCP client.
 # 
 # + localHost - Local binding of the interface
@@ -84,9 +186,21 @@ public isolated client class Client {
 # + writeTimeout - The socket write timeout value to be used in seconds. If this is not set, the default value
 # of 300 seconds(5 minutes) will be used
 # + secureSocket - The `secureSocket` configuration
+# + eventLoop - The named event loop group serving the client. If this is not set, the event loops shared by all the
+# clients will be used
+# + bufferConfig - The configurations of the buffers used by the connection
+# + writeCoalescing - Enables coalescing the writes of the connection into fewer flushes
+# + writeBuffer - The outbound buffering configurations of the connection
+# + framing - The framing of the messages exchanged over the connection. If this is not set, the data is delivered in
+# the chunks it is read from the network
 public type ClientConfiguration record {|
     string localHost?;
     decimal timeout = 300;
     decimal writeTimeout = 300;
     ClientSecureSocket secureSocket?;
+    EventLoopConfiguration eventLoop?;
+    BufferConfiguration bufferConfig?;
+    WriteCoalescingConfiguration writeCoalescing?;
+    WriteBufferConfiguration writeBuffer?;
+    LengthFieldFraming|DelimiterFraming framing?;
 |};
@@ -16,10 +16,144 @@
 
 import ballerina/jballerina.java;
 
+# Represents the I/O transport used by the TCP listeners and clients.
+public enum Transport {
+   AUTO,
+   NIO,
+   EPOLL
+}
+
+# The I/O transport used by the TCP listeners and clients. `AUTO` uses the Linux native epoll transport when it is
+# available and falls back to NIO otherwise.
+configurable Transport transport = AUTO;
+
+# Configurations of a named event loop group. Listeners and clients referring to the same name share the group,
+# while a name used by a single listener or client gives it event loops of its own. The thread counts are taken from
+# the first listener or client that creates the group. Like the default event loops, a named group lives as long as
+# the program, so that the listeners and clients created later with the same name keep sharing it.
+#
+# + name - The name of the event loop group
+# + acceptorThreads - The number of threads accepting the incoming connections of the listeners. If this is not set,
+# a thread per acceptor of the listener creating the group will be used
+# + ioThreads - The number of threads performing the network I/O. If this is not set, twice the number of available
+# processors will be used
+public type EventLoopConfiguration record {|
+    string name;
+    int acceptorThreads?;
+    int ioThreads?;
+|};
+
+# Represents the byte buffer allocator types.
+public enum AllocatorType {
+   POOLED,
+   UNPOOLED
+}
+
+# Configurations of the byte buffers used by the connections.
+#
+# + allocator - The buffer allocator type. Pooled buffers reduce the allocation rate, while unpooled buffers release
+# the memory as soon as the data is consumed
+# + preferDirect - Allocate direct (off-heap) buffers when the platform supports them
+# + arenas - The number of arenas of the pooled allocator. If this is not set, the number of arenas is derived from
+# the available processors and memory
+# + receiveBufferSize - The size of the buffer used for each read in bytes. An `int` value gives a fixed size, while a
+# `ReceiveBufferSizeRange` lets the size adapt to the amount of data read
+public type BufferConfiguration record {|
+    AllocatorType allocator = POOLED;
+    boolean preferDirect = true;
+    int arenas?;
+    int|ReceiveBufferSizeRange receiveBufferSize?;
+|};
+
+# Represents the range within which the receive buffer size adapts.
+#
+# + minimum - The minimum size of the receive buffer in bytes
+# + initial - The initial size of the receive buffer in bytes
+# + maximum - The maximum size of the receive buffer in bytes
+public type ReceiveBufferSizeRange record {|
+    int minimum = 64;
+    int initial = 2048;
+    int maximum = 65536;
+|};
+
+# Configurations for coalescing the writes of a connection. The writes pending on a connection are flushed together
+# once per event loop iteration instead of one flush per write, or earlier when the given number of bytes is pending.
+#
+# + maxPendingBytes - The maximum number of bytes written to the connection before a flush. Must be a positive value
+public type WriteCoalescingConfiguration record {|
+    int maxPendingBytes = 65536;
+|};
+
+# Represents the action taken when a write does not fit in the outbound queue of a connection.
+public enum WriteOverflowPolicy {
+   BLOCK,
+   FAIL,
+   DROP
+}
+
+# Configurations of the outbound buffering of a connection.
+#
+# + highWaterMark - The number of bytes pending in the socket outbound buffer at which the connection stops taking
+# writes from the write queue
+# + lowWaterMark - The number of bytes pending in the socket outbound buffer at which the connection resumes taking
+# writes from the write queue
+# + maxQueuedBytes - The maximum number of bytes waiting in the write queue of a connection. If this is not set,
+# the write queue is unbounded
+# + overflowPolicy - The action taken when a write does not fit in the write queue. `BLOCK` waits until there is
+# space, or for a client until its write timeout expires, `FAIL` returns a `tcp:BackpressureError` and `DROP`
+# discards the data
+public type WriteBufferConfiguration record {|
+    int highWaterMark = 65536;
+    int lowWaterMark = 32768;
+    int maxQueuedBytes?;
+    WriteOverflowPolicy overflowPolicy = FAIL;
+|};
+
+# Represents the byte order of the multi-byte values in a frame.
+public enum ByteOrder {
+   BIG_ENDIAN,
+   LITTLE_ENDIAN
+}
+
+# Configurations of length-prefixed framing. Each message is preceded by a length field holding the number of bytes in
+# the message, and each `onBytes` or `readBytes` call gets exactly one complete message.
+#
+# + lengthFieldLength - The size of the length field in bytes. Supported sizes are 1, 2, 3, 4 and 8
+# + lengthFieldOffset - The number of header bytes preceding the length field. Without a header, the length field is
+# stripped from the received messages and added to the written messages. With a header, the received messages include
+# the header and the length field, and the written data is expected to be complete frames
+# + byteOrder - The byte order of the length field
+# + maxFrameLength - The maximum size of a frame in bytes. A larger frame is discarded and reported as an error
+public type LengthFieldFraming record {|
+    int lengthFieldLength = 4;
+    int lengthFieldOffset = 0;
+    ByteOrder byteOrder = BIG_ENDIAN;
+    int maxFrameLength = 1048576;
+|};
+
+# Configurations of delimiter-based framing. The received data is split on the delimiters, and each `onBytes` or
+# `readBytes` call gets exactly one complete message.
+#
+# + delimiters - The delimiters separating the messages, given as strings or byte sequences. The data is split on the
+# delimiter found first. The default delimiters split the data into lines
+# + maxFrameLength - The maximum size of a message in bytes. A longer message is discarded and reported as an error
+# + stripDelimiter - Removes the delimiter from the received messages and appends the first delimiter to the written
+# messages. Otherwise, the received messages include the delimiter, and the written data is sent as it is
+public type DelimiterFraming record {|
+    (string|byte[])[] delimiters = ["\n", "\r\n"];
+    int maxFrameLength = 65536;
+    boolean stripDelimiter = true;
+|};
+
 function init() {
     setModule();
+    setTransport(transport);
 }
 
 function setModule() = @java:Method {
     'class: "io.ballerina.stdlib.tcp.Utils"
 } external;
+
+function setTransport(Transport transport) = @java:Method {
+    'class: "io.ballerina.stdlib.tcp.TcpFactory"
+} external;
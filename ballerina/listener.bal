@@ -79,17 +79,77 @@ public isolated class Listener {
         name: "externDetach"
     } external;
 
+    # Returns the statistics of the TLS handshakes made by the listener. The resumption hit rate of the listener is the
+    # ratio of the resumed handshakes to all the completed handshakes.
+    # ```ballerina
+    # tcp:TlsStatistics statistics = tcpListener.getTlsStatistics();
+    # ```
+    #
+    # + return - The TLS handshake statistics
+    public isolated function getTlsStatistics() returns TlsStatistics = @java:Method {
+        'class: "io.ballerina.stdlib.tcp.nativelistener.Listener",
+        name: "externGetTlsStatistics"
+    } external;
+
     isolated function externInitListener(int localPort, ListenerConfiguration config) returns Error? = @java:Method {
         'class: "io.ballerina.stdlib.tcp.nativelistener.Listener",
         name: "externInit"
     } external;
 }
 
+# Represents the statistics of the TLS handshakes made by a listener.
+#
+# + handshakes - The number of completed handshakes
+# + resumedHandshakes - The number of completed handshakes which resumed an earlier session, from the session cache
+# or a session ticket, instead of making a full handshake. With the `JDK` provider, only the resumptions of TLS 1.2
+# sessions are counted
+# + failedHandshakes - The number of failed handshakes
+# + averageHandshakeTime - The average duration of the completed handshakes in seconds
+# + maxHandshakeTime - The longest duration of a completed handshake in seconds
+# + queuedHandshakeTasks - The number of handshake tasks waiting for the handshake executor
+public type TlsStatistics record {|
+    int handshakes;
+    int resumedHandshakes;
+    int failedHandshakes;
+    decimal averageHandshakeTime;
+    decimal maxHandshakeTime;
+    int queuedHandshakeTasks;
+|};
+
+# Represents the ways the remote methods of a connection service are dispatched.
+public enum DispatchMode {
+   CONCURRENT,
+   ORDERED
+}
+
 # Provides a set of configurations for tcp listener.
 #
 # + localHost - The hostname
 # + secureSocket - The SSL configurations for the listener
+# + acceptors - The number of server sockets bound to the port with `SO_REUSEPORT`, letting the kernel distribute
+# the incoming connections among them. Multiple acceptors are only supported with the epoll transport
+# + eventLoop - The named event loop group serving the listener. If this is not set, the event loops shared by all the
+# listeners will be used
+# + bufferConfig - The configurations of the buffers used by the accepted connections
+# + writeCoalescing - Enables coalescing the writes of the accepted connections into fewer flushes
+# + writeBuffer - The outbound buffering configurations of the accepted connections
+# + dispatchMode - The way the remote methods of a connection service are dispatched. `CONCURRENT` calls each method
+# on a strand of its own, while `ORDERED` calls the methods of a connection one after the other in the order the
+# data was received
+# + maxInFlightOnBytes - The maximum number of `onBytes` calls of a connection in progress at a time. Reading from the
+# connection pauses once the limit is reached and resumes as the calls complete, pushing back on fast senders. If this
+# is not set, the number of calls in progress is unbounded
+# + framing - The framing of the messages exchanged over the accepted connections. If this is not set, the data is
+# delivered in the chunks it is read from the network
 public type ListenerConfiguration record {|
    string localHost?;
    ListenerSecureSocket secureSocket?; 
+   int acceptors = 1;
+   EventLoopConfiguration eventLoop?;
+   BufferConfiguration bufferConfig?;
+   WriteCoalescingConfiguration writeCoalescing?;
+   WriteBufferConfiguration writeBuffer?;
+   DispatchMode dispatchMode = CONCURRENT;
+   int maxInFlightOnBytes?;
+   LengthFieldFraming|DelimiterFraming framing?;
 |};
@@ -24,7 +24,12 @@ import ballerina/crypto;
 # + ciphers - List of ciphers to be used
 # E.g., `TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256`, `TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA`
 # + handshakeTimeout - SSL handshake time out
-# + sessionTimeout - SSL session time out
+# + sessionTimeout - SSL session time out. The sessions of the clients with the same secure socket configurations are
+# cached for this long, and the later connections to the same remote host and port resume them instead of making a full
+# handshake
+# + sessionCacheSize - The maximum number of sessions cached for resumption. If this is not set, the default size of the
+# SSL provider is used
+# + provider - The SSL provider implementing the protocol
 public type ClientSecureSocket record {|
     boolean enable = true;
     crypto:TrustStore|string cert?;
@@ -35,6 +40,8 @@ public type ClientSecureSocket record {|
     string[] ciphers?;
     decimal handshakeTimeout?;
     decimal sessionTimeout?;
+    int sessionCacheSize?;
+    SslProvider provider = JDK;
 |};
 
 # Secure Socket configuration for TCP Listener.
@@ -45,6 +52,12 @@ public type ClientSecureSocket record {|
 # E.g., `TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256`, `TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA`
 # + handshakeTimeout - SSL handshake time out
 # + sessionTimeout - SSL session time out
+# + sessionCacheSize - The maximum number of sessions cached for resumption. If this is not set, the default size of the
+# SSL provider is used
+# + sessionTickets - The configurations of the stateless session tickets issued to the clients
+# + handshakeExecutor - The executor running the CPU intensive tasks of the handshakes. If this is not set, the tasks
+# run on the event loops, along with the data transfer of the established connections
+# + provider - The SSL provider implementing the protocol
 public type ListenerSecureSocket record {|
     crypto:KeyStore|CertKey key;
     record {|
@@ -54,6 +67,33 @@ public type ListenerSecureSocket record {|
     string[] ciphers = [];
     decimal handshakeTimeout?;
     decimal sessionTimeout?;
+    int sessionCacheSize?;
+    SessionTicketConfiguration sessionTickets?;
+    HandshakeExecutorConfiguration handshakeExecutor?;
+    SslProvider provider = JDK;
+|};
+
+# Configurations of the stateless session tickets issued by a TLS listener. A session ticket holds the session state
+# encrypted by the listener, so that a client resumes its session without the listener caching it. The ticket keys
+# can only be configured with the `OPENSSL` provider, while the `JDK` provider issues the tickets with keys of its own.
+#
+# + enable - Issues session tickets with keys generated by the listener
+# + keyRotationInterval - The interval in seconds at which the ticket keys are replaced. The tickets issued with the
+# previous key are still accepted until the next rotation
+public type SessionTicketConfiguration record {|
+    boolean enable = true;
+    decimal keyRotationInterval = 3600;
+|};
+
+# Configurations of the executor running the CPU intensive tasks of the TLS handshakes, such as verifying the
+# certificates and computing the key exchange.
+#
+# + threads - The number of threads of the executor
+# + maxQueuedTasks - The maximum number of tasks waiting for a thread. Once the queue is full, the tasks run on the
+# event loop of their connection
+public type HandshakeExecutorConfiguration record {|
+    int threads = 2;
+    int maxQueuedTasks = 1024;
 |};
 
 # Represents a combination of the certificate, private key, and private key password (if encrypted).
@@ -72,3 +112,10 @@ public enum Protocol {
    SSL,
    TLS
 }
+
+# Represents the SSL providers. `OPENSSL` uses the BoringSSL native library of netty-tcnative, which is bundled for
+# Linux on x86_64 and aarch_64, and falls back to `JDK` when the library cannot be loaded on the current platform.
+public enum SslProvider {
+   JDK,
+   OPENSSL
+}
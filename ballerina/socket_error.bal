@@ -16,3 +16,6 @@
 
 # Represents TCP module related errors.
 public type Error distinct error;
+
+# Represents the error returned when data cannot be written because the write queue of the connection is full.
+public type BackpressureError distinct Error;
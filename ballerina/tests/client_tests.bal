@@ -76,6 +76,153 @@ function testServerAlreadyClosed() returns error? {
     check socketClient->close();
 }
 
+@test:Config {dependsOn: [testServerAlreadyClosed]}
+function testConcurrentClientWrites() returns error? {
+    Client socketClient = check new ("localhost", 3000);
+
+    // Each write is timed on its own, hence writes in flight at the same time must not interfere
+    future<Error?> first = start socketClient->writeBytes("Hello ".toBytes());
+    future<Error?> second = start socketClient->writeBytes("Ballerina".toBytes());
+    check wait first;
+    check wait second;
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testConcurrentClientWrites]}
+function testReadExactLength() returns error? {
+    Client socketClient = check new ("localhost", 3000);
+    check socketClient->writeBytes("Hello Ballerina".toBytes());
+
+    // The data received beyond the first read is kept for the second one
+    readonly & byte[] first = check socketClient->readBytes(5);
+    test:assertEquals('string:fromBytes(first), "Hello", "Found unexpected output");
+    readonly & byte[] second = check socketClient->readBytes(10);
+    test:assertEquals('string:fromBytes(second), " Ballerina", "Found unexpected output");
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testReadExactLength]}
+function testReadInto() returns error? {
+    Client socketClient = check new ("localhost", 3000);
+    check socketClient->writeBytes("Hello Ballerina".toBytes());
+
+    byte[] buffer = [0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0];
+    check socketClient->readInto(buffer, 2, 15);
+    test:assertEquals('string:fromBytes(buffer.slice(2)), "Hello Ballerina", "Found unexpected output");
+    test:assertEquals(buffer.slice(0, 2), [0, 0], "Found unexpected output");
+
+    Error? result = socketClient->readInto(buffer, 10, 10);
+    test:assertTrue(result is Error, msg = "Reading beyond the end of the array should result in an error");
+
+    check socketClient->close();
+}
+
+const int WRITE_AND_CLOSE_PORT = 3026;
+
+service on new Listener(WRITE_AND_CLOSE_PORT) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new WriteAndCloseService();
+    }
+}
+
+// Writes the requested number of bytes and closes the connection right after
+service class WriteAndCloseService {
+    *ConnectionService;
+
+    remote function onBytes(Caller caller, readonly & byte[] data) returns Error? {
+        int|error length = int:fromString(check 'string:fromBytes(data));
+        if length is error {
+            return;
+        }
+        check caller->writeBytes(createPayload(length));
+        check caller->close();
+    }
+}
+
+isolated function createPayload(int length) returns byte[] {
+    byte[] payload = [];
+    foreach int i in 0 ..< length {
+        payload.push(<byte>(i % 256));
+    }
+    return payload;
+}
+
+@test:Config {dependsOn: [testReadInto]}
+function testReadAfterRemoteClose() returns error? {
+    Client socketClient = check new ("localhost", WRITE_AND_CLOSE_PORT);
+    check socketClient->writeBytes("8".toBytes());
+
+    // The read cannot be satisfied before the connection is closed, yet the data received is kept
+    (readonly & byte[])|Error result = socketClient->readBytes(16);
+    test:assertTrue(result is Error, msg = "Reading more than sent should fail once the connection is closed");
+
+    readonly & byte[] first = check socketClient->readBytes(4);
+    readonly & byte[] second = check socketClient->readBytes(4);
+    test:assertEquals([...first, ...second], createPayload(8), "Found unexpected output");
+
+    result = socketClient->readBytes();
+    test:assertTrue(result is Error, msg = "Reading beyond the data received should fail");
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testReadInto]}
+function testReadBlocksAsStream() returns error? {
+    Client socketClient = check new ("localhost", 3000);
+    check socketClient->writeBytes("Hello ".toBytes());
+    check socketClient->writeBytes("Ballerina".toBytes());
+
+    stream<readonly & byte[], Error?> blockStream = check socketClient->readBlocksAsStream(2);
+    byte[] received = [];
+    while received.length() < 15 {
+        record {|readonly & byte[] value;|}? block = check blockStream.next();
+        if block is () {
+            test:assertFail(msg = "The stream ended before receiving all the data");
+        }
+        received.push(...block.value);
+    }
+    test:assertEquals('string:fromBytes(received), "Hello Ballerina", "Found unexpected output");
+    check blockStream.close();
+
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testReadBlocksAsStream]}
+function testReadBlocksAfterRemoteClose() returns error? {
+    Client socketClient = check new ("localhost", WRITE_AND_CLOSE_PORT);
+    int length = 262144;
+    check socketClient->writeBytes(length.toString().toBytes());
+
+    // All the data is received before the connection is found closed, so the blocks are served from the data kept
+    (readonly & byte[])|Error result = socketClient->readBytes(length + 1);
+    test:assertTrue(result is Error, msg = "Reading more than sent should fail once the connection is closed");
+
+    stream<readonly & byte[], Error?> blockStream = check socketClient->readBlocksAsStream();
+    byte[] received = [];
+    record {|readonly & byte[] value;|}? block = check blockStream.next();
+    while block !is () {
+        received.push(...block.value);
+        block = check blockStream.next();
+    }
+    test:assertEquals(received.length(), length, "Found unexpected number of bytes");
+    test:assertEquals(received, createPayload(length), "Found unexpected output");
+    check socketClient->close();
+}
+
+@test:Config {dependsOn: [testReadBlocksAsStream]}
+function testWriteBlocksFromStream() returns error? {
+    Client socketClient = check new ("localhost", 3000);
+    byte[][] blocks = ["Hello ".toBytes(), "from ".toBytes(), "Ballerina".toBytes()];
+    check socketClient->writeBlocksFromStream(blocks.toStream());
+
+    readonly & byte[] receivedData = check socketClient->readBytes(20);
+    test:assertEquals('string:fromBytes(receivedData), "Hello from Ballerina", "Found unexpected output");
+
+    check socketClient->close();
+}
+
 @test:AfterSuite {}
 function stopAll() returns error? {
     check stopEchoServer();
@@ -0,0 +1,102 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime as runtime;
+import ballerina/test;
+
+const int LENGTH_FRAMING_PORT = 3021;
+const int DELIMITER_FRAMING_PORT = 3022;
+
+service on new Listener(LENGTH_FRAMING_PORT, framing = {lengthFieldLength: 2}) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new FrameEchoService();
+    }
+}
+
+service on new Listener(DELIMITER_FRAMING_PORT, framing = {delimiters: ["\n"]}) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new FrameEchoService();
+    }
+}
+
+service class FrameEchoService {
+    *ConnectionService;
+
+    isolated remote function onBytes(readonly & byte[] data) returns byte[] {
+        return data;
+    }
+}
+
+@test:Config {}
+function testLengthFieldFraming() returns error? {
+    Client socketClient = check new ("localhost", LENGTH_FRAMING_PORT, framing = {lengthFieldLength: 2});
+    string[] messages = ["first", "second message", "third"];
+    foreach string msg in messages {
+        check socketClient->writeBytes(msg.toBytes());
+    }
+    // The echoed messages may arrive in a single read, yet each readBytes call returns one message
+    foreach string msg in messages {
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+    }
+    check socketClient->close();
+}
+
+@test:Config {}
+function testLengthFieldFramingWithPartialFrames() returns error? {
+    // An unframed client writes a frame in two parts, which the listener must deliver as one message
+    Client socketClient = check new ("localhost", LENGTH_FRAMING_PORT);
+    check socketClient->writeBytes([0, 5, 104, 101]);
+    runtime:sleep(0.5);
+    check socketClient->writeBytes([108, 108, 111]);
+    byte[] received = [];
+    while received.length() < 7 {
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        received.push(...receivedData);
+    }
+    test:assertEquals(received, [0, 5, 104, 101, 108, 108, 111], "Found unexpected output");
+    check socketClient->close();
+}
+
+@test:Config {}
+function testDelimiterFraming() returns error? {
+    Client socketClient = check new ("localhost", DELIMITER_FRAMING_PORT, framing = {delimiters: ["\n"]});
+    string[] messages = ["first", "second message", "third"];
+    foreach string msg in messages {
+        check socketClient->writeBytes(msg.toBytes());
+    }
+    foreach string msg in messages {
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+    }
+    check socketClient->close();
+}
+
+@test:Config {}
+function testDelimiterFramingWithMultipleLines() returns error? {
+    // An unframed client writes two lines at once, which the listener must deliver as two messages
+    Client socketClient = check new ("localhost", DELIMITER_FRAMING_PORT);
+    check socketClient->writeBytes("first\nsecond\n".toBytes());
+    string received = "";
+    while received.length() < 13 {
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        received += check 'string:fromBytes(receivedData);
+    }
+    test:assertEquals(received, "first\nsecond\n", "Found unexpected output");
+    check socketClient->close();
+}
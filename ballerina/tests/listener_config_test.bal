@@ -0,0 +1,313 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/lang.runtime as runtime;
+import ballerina/test;
+
+const string SLOW_MESSAGE = "slow;";
+const string FAST_MESSAGE = "fast;";
+const int IN_FLIGHT_CHUNKS = 20;
+
+isolated int inFlightOnBytes = 0;
+isolated int maxObservedInFlightOnBytes = 0;
+
+service on new Listener(3012, acceptors = 2) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new EchoService();
+    }
+}
+
+service on new Listener(3028, acceptors = 2, eventLoop = {name: "multipleAcceptorLoop", ioThreads: 2}) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new EchoService();
+    }
+}
+
+service on new Listener(3013, eventLoop = {name: "isolatedListenerLoop", acceptorThreads: 1, ioThreads: 2}) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new EchoService();
+    }
+}
+
+service on new Listener(3014, bufferConfig = {allocator: UNPOOLED, preferDirect: false, receiveBufferSize: 16}) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new EchoService();
+    }
+}
+
+service on new Listener(3016, writeCoalescing = {maxPendingBytes: 8}) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new EchoService();
+    }
+}
+
+service on new Listener(3018, dispatchMode = ORDERED) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new DelayedEchoService();
+    }
+}
+
+service on new Listener(3019, maxInFlightOnBytes = 1) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new InFlightCountingService();
+    }
+}
+
+service on new Listener(3020) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new ConnectionIdService(caller.id);
+    }
+}
+
+service class DelayedEchoService {
+    *ConnectionService;
+
+    remote function onBytes(Caller caller, readonly & byte[] data) returns Error? {
+        // Holds back the echo of the first message, so that a later message dispatched concurrently would overtake it
+        if 'string:fromBytes(data) == SLOW_MESSAGE {
+            runtime:sleep(1);
+        }
+        check caller->writeBytes(data);
+    }
+}
+
+service class InFlightCountingService {
+    *ConnectionService;
+
+    remote function onBytes(Caller caller, readonly & byte[] data) returns Error? {
+        lock {
+            inFlightOnBytes += 1;
+            if inFlightOnBytes > maxObservedInFlightOnBytes {
+                maxObservedInFlightOnBytes = inFlightOnBytes;
+            }
+        }
+        // Keeps the call in progress while more data arrives on the connection
+        runtime:sleep(0.1);
+        lock {
+            inFlightOnBytes -= 1;
+        }
+        check caller->writeBytes(data);
+    }
+}
+
+service class ConnectionIdService {
+    *ConnectionService;
+
+    private final string id;
+
+    isolated function init(string id) {
+        self.id = id;
+    }
+
+    isolated remote function onBytes(Caller caller, readonly & byte[] data) returns byte[] {
+        return (caller.id == self.id ? "match" : "mismatch").toBytes();
+    }
+}
+
+@test:Config {}
+function testListenerWithMultipleAcceptors() returns error? {
+    // Both acceptors are bound with the epoll transport, while the other transports fall back to a single acceptor
+    int listeningSockets = countListeningSockets(3012);
+    if listeningSockets >= 0 {
+        test:assertEquals(listeningSockets, isEpollTransport() ? 2 : 1, "Found unexpected number of acceptors");
+    }
+    foreach int i in 0 ..< 4 {
+        Client socketClient = check new ("localhost", 3012);
+        string msg = string `Hello acceptor ${i}`;
+        check socketClient->writeBytes(msg.toBytes());
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+        check socketClient->close();
+    }
+}
+
+@test:Config {}
+function testMultipleAcceptorsOnNamedEventLoop() returns error? {
+    // The named group gets an acceptor thread for each acceptor, as its acceptor thread count is not set
+    int listeningSockets = countListeningSockets(3028);
+    if listeningSockets >= 0 {
+        test:assertEquals(listeningSockets, isEpollTransport() ? 2 : 1, "Found unexpected number of acceptors");
+    }
+    foreach int i in 0 ..< 4 {
+        Client socketClient = check new ("localhost", 3028);
+        string msg = string `Hello named acceptor ${i}`;
+        check socketClient->writeBytes(msg.toBytes());
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+        check socketClient->close();
+    }
+}
+
+@test:Config {}
+function testListenerWithInvalidAcceptors() returns error? {
+    Listener server = check new Listener(3024, acceptors = 0);
+    check server.attach(obj);
+    error? res = server.start();
+    test:assertTrue(res is error, msg = "A non-positive acceptor count should fail the listener start");
+}
+
+@test:Config {}
+function testNamedEventLoopGroups() returns error? {
+    Client socketClient = check new ("localhost", 3013, eventLoop = {name: "isolatedClientLoop", ioThreads: 1});
+    string msg = "Hello named event loops";
+    check socketClient->writeBytes(msg.toBytes());
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+    check socketClient->close();
+}
+
+@test:Config {}
+function testBufferConfiguration() returns error? {
+    Client socketClient = check new ("localhost", 3014, bufferConfig = {
+        arenas: 1,
+        receiveBufferSize: {minimum: 64, initial: 1024, maximum: 4096}
+    });
+    string msg = "Hello buffers";
+    check socketClient->writeBytes(msg.toBytes());
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+    check socketClient->close();
+}
+
+@test:Config {}
+function testInboundArrayHandover() returns error? {
+    byte[] data = "Hello zero copy".toBytes();
+    BufferConfiguration unpooledHeap = {allocator: UNPOOLED, preferDirect: false};
+    test:assertTrue(check isInboundArrayHandedOver(unpooledHeap, data, 0),
+            msg = "Expected the array of an exactly sized unpooled heap buffer to be handed over");
+    // The array of a buffer with spare capacity holds more than the data, while pooled arrays are reused
+    test:assertFalse(check isInboundArrayHandedOver(unpooledHeap, data, 16),
+            msg = "Expected a buffer with spare capacity to be copied");
+    test:assertFalse(check isInboundArrayHandedOver({allocator: POOLED, preferDirect: false}, data, 0),
+            msg = "Expected a pooled buffer to be copied");
+}
+
+@test:Config {}
+function testWriteCoalescing() returns error? {
+    Client socketClient = check new ("localhost", 3016, writeCoalescing = {});
+    string msg = "Hello coalesced writes";
+    check socketClient->writeBytes(msg.toBytes());
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+    check socketClient->close();
+}
+
+@test:Config {}
+function testEmptyWriteWithCoalescing() returns error? {
+    // An empty write adds no bytes to be flushed, yet it must complete instead of timing out
+    Client socketClient = check new ("localhost", 3016, writeCoalescing = {}, writeTimeout = 5);
+    check socketClient->writeBytes([]);
+    string msg = "Hello after an empty write";
+    check socketClient->writeBytes(msg.toBytes());
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+    check socketClient->close();
+}
+
+@test:Config {}
+function testInvalidWriteCoalescing() {
+    Client|Error socketClient = new ("localhost", 3016, writeCoalescing = {maxPendingBytes: 0});
+    test:assertTrue(socketClient is Error, msg = "A non-positive maxPendingBytes should fail the client init");
+}
+
+@test:Config {}
+function testOrderedDispatch() returns error? {
+    Client[] clients = [];
+    foreach int i in 0 ..< 2 {
+        clients.push(check new ("localhost", 3018));
+    }
+    foreach Client socketClient in clients {
+        check socketClient->writeBytes(SLOW_MESSAGE.toBytes());
+    }
+    // Gives the first messages time to be read on their own, so the next ones are dispatched while they are in progress
+    runtime:sleep(0.2);
+    foreach Client socketClient in clients {
+        check socketClient->writeBytes(FAST_MESSAGE.toBytes());
+    }
+    // With concurrent dispatch the fast message would be echoed ahead of the slow one
+    string expected = SLOW_MESSAGE + FAST_MESSAGE;
+    foreach Client socketClient in clients {
+        string received = "";
+        while received.length() < expected.length() {
+            readonly & byte[] receivedData = check socketClient->readBytes();
+            received += check 'string:fromBytes(receivedData);
+        }
+        test:assertEquals(received, expected, "Found messages of a connection dispatched out of order");
+        check socketClient->close();
+    }
+}
+
+@test:Config {}
+function testMaxInFlightOnBytes() returns error? {
+    Client socketClient = check new ("localhost", 3019);
+    string expected = "";
+    foreach int i in 0 ..< IN_FLIGHT_CHUNKS {
+        string msg = string `${i},`;
+        check socketClient->writeBytes(msg.toBytes());
+        expected += msg;
+        // Spreads the chunks over several reads, most of them arriving while an earlier onBytes call is in progress
+        runtime:sleep(0.02);
+    }
+    // Reading is paused and resumed around each onBytes call, yet all the data must be served
+    string received = "";
+    while received.length() < expected.length() {
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        received += check 'string:fromBytes(receivedData);
+    }
+    test:assertEquals(received, expected, "Found unexpected output");
+    check socketClient->close();
+    lock {
+        test:assertEquals(maxObservedInFlightOnBytes, 1, "Found more onBytes calls in progress than allowed");
+    }
+}
+
+@test:Config {}
+function testConnectionStateIsolation() returns error? {
+    // All the connections are accepted before any data is sent, so that each onBytes call has to find the connection
+    // service returned for its own connection
+    Client[] clients = [];
+    foreach int i in 0 ..< 4 {
+        clients.push(check new ("localhost", 3020));
+    }
+    foreach Client socketClient in clients {
+        check socketClient->writeBytes("id".toBytes());
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), "match", "Found data dispatched to another connection");
+        check socketClient->close();
+    }
+}
+
+function isInboundArrayHandedOver(BufferConfiguration bufferConfig, byte[] data, int spareCapacity)
+        returns boolean|Error = @java:Method {
+    'class: "io.ballerina.stdlib.tcp.testutils.TestUtils"
+} external;
+
+function countListeningSockets(int port) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.tcp.testutils.TestUtils"
+} external;
+
+function isEpollTransport() returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.tcp.testutils.TestUtils"
+} external;
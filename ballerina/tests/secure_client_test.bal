@@ -97,6 +97,75 @@ function testSecureClientEcho() returns error? {
     check socketClient->close();
 }
 
+@test:Config {dependsOn: [testSecureClientEcho]}
+function testSecureClientsWithSameConfig() returns error? {
+    // The clients share a single SSL context, while each of them gets its own connection
+    foreach int i in 0 ..< 3 {
+        Client socketClient = check new ("localhost", 9002, secureSocket = {
+            cert: certPath,
+            protocol: {
+                name: TLS,
+                versions: ["TLSv1.2", "TLSv1.1"]
+            },
+            ciphers: ["TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA"]
+        });
+
+        string msg = string `Hello Ballerina Echo from secure client ${i}`;
+        check socketClient->writeBytes(msg.toBytes());
+
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+
+        check socketClient->close();
+    }
+}
+
+@test:Config {dependsOn: [testSecureClientsWithSameConfig]}
+function testSecureClientReconnect() returns error? {
+    // The reconnecting client resumes the session cached by the first connection
+    foreach int i in 0 ..< 2 {
+        Client socketClient = check new ("localhost", 9002, secureSocket = {
+            cert: certPath,
+            sessionTimeout: 600,
+            sessionCacheSize: 10
+        });
+
+        string msg = "Hello Ballerina Echo from reconnecting client";
+        check socketClient->writeBytes(msg.toBytes());
+
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+
+        check socketClient->close();
+    }
+}
+
+@test:Config {dependsOn: [testSecureClientReconnect]}
+function testSecureClientWithOpenSslProvider() returns error? {
+    // The JDK provider is used instead, when the OpenSSL native library is not available
+    Client socketClient = check new ("localhost", 9002, secureSocket = {
+        cert: certPath,
+        provider: OPENSSL
+    });
+
+    string msg = "Hello Ballerina Echo from OpenSSL client";
+    check socketClient->writeBytes(msg.toBytes());
+
+    readonly & byte[] receivedData = check socketClient->readBytes();
+    test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+
+    check socketClient->close();
+}
+
+@test:Config {}
+function testSecureClientWithNegativeSessionCacheSize() {
+    Client|Error socketClient = new ("localhost", 9002, secureSocket = {
+        cert: certPath,
+        sessionCacheSize: -1
+    });
+    test:assertTrue(socketClient is Error, msg = "A negative session cache size should result in an error");
+}
+
 @test:Config {dependsOn: [testSecureClientEcho]}
 function testSecureClientWithTruststore() returns error? {
     Client socketClient = check new ("localhost", PORT7, secureSocket = {
@@ -221,3 +221,125 @@ function testListenerWithMalformedKeystore() returns error? {
         test:assertFail(msg = "Malformed keystore should fail to initialize.");
     }
 }
+
+@test:Config {dependsOn: [testSecureClientEcho]}
+function testSecureListenerSessionResumption() returns error? {
+    // The JDK provider detects the resumptions from the session IDs, which are only kept by TLS 1.2
+    Listener server = check new Listener(3023, secureSocket = {
+        key: {
+            certFile: certPath,
+            keyFile: keyPath
+        },
+        protocol: {
+            name: TLS,
+            versions: ["TLSv1.2"]
+        },
+        sessionTimeout: 600,
+        sessionCacheSize: 100,
+        sessionTickets: {
+            keyRotationInterval: 60
+        },
+        handshakeExecutor: {
+            threads: 1
+        }
+    });
+    Service echoService = service object {
+        isolated remote function onConnect(Caller caller) returns ConnectionService {
+            return new FrameEchoService();
+        }
+    };
+    check server.attach(echoService);
+    check server.'start();
+
+    foreach int i in 0 ..< 2 {
+        Client socketClient = check new ("localhost", 3023, secureSocket = {
+            cert: certPath,
+            sessionTimeout: 600
+        });
+        check socketClient->writeBytes("Hello".toBytes());
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), "Hello", "Found unexpected output");
+        check socketClient->close();
+    }
+
+    TlsStatistics statistics = server.getTlsStatistics();
+    test:assertEquals(statistics.handshakes, 2, "Found unexpected handshake count");
+    // The second client shares the context of the first one and resumes the session it cached
+    test:assertEquals(statistics.resumedHandshakes, 1, "Found unexpected resumption count");
+    test:assertEquals(statistics.failedHandshakes, 0, "Found unexpected failed handshake count");
+    test:assertTrue(statistics.maxHandshakeTime >= statistics.averageHandshakeTime, "Found unexpected durations");
+    test:assertTrue(statistics.averageHandshakeTime > 0d, "Found unexpected average handshake time");
+    check server.gracefulStop();
+}
+
+@test:Config {dependsOn: [testSecureListenerSessionResumption]}
+function testSecureListenerSessionResumptionWithOpenSsl() returns error? {
+    Listener server = check new Listener(3027, secureSocket = {
+        key: {
+            certFile: certPath,
+            keyFile: keyPath
+        },
+        sessionTimeout: 600,
+        sessionTickets: {
+            keyRotationInterval: 60
+        },
+        provider: OPENSSL
+    });
+    Service echoService = service object {
+        isolated remote function onConnect(Caller caller) returns ConnectionService {
+            return new FrameEchoService();
+        }
+    };
+    check server.attach(echoService);
+    check server.'start();
+
+    // The first connection makes a full handshake, while the second one resumes the session of the first
+    foreach int i in 0 ..< 2 {
+        Client socketClient = check new ("localhost", 3027, secureSocket = {
+            cert: certPath,
+            sessionTimeout: 600,
+            provider: OPENSSL
+        });
+        check socketClient->writeBytes("Hello".toBytes());
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), "Hello", "Found unexpected output");
+        check socketClient->close();
+
+        TlsStatistics statistics = server.getTlsStatistics();
+        test:assertEquals(statistics.handshakes, i + 1, "Found unexpected handshake count");
+        test:assertEquals(statistics.resumedHandshakes, i, "Found unexpected resumption count");
+    }
+    check server.gracefulStop();
+}
+
+@test:Config {}
+function testListenerWithInvalidTicketKeyRotationInterval() returns error? {
+    Listener server = check new Listener(9999, secureSocket = {
+        key: {
+            certFile: certPath,
+            keyFile: keyPath
+        },
+        sessionTickets: {
+            keyRotationInterval: 0
+        }
+    });
+    check server.attach(obj);
+    error? res = server.start();
+    test:assertTrue(res is error, msg = "A non-positive key rotation interval should fail the listener start");
+}
+
+@test:Config {}
+function testListenerWithInvalidHandshakeExecutor() returns error? {
+    Listener server = check new Listener(9999, secureSocket = {
+        key: {
+            certFile: certPath,
+            keyFile: keyPath
+        },
+        handshakeExecutor: {
+            threads: 0
+        }
+    });
+    check server.attach(obj);
+    error? res = server.start();
+    test:assertTrue(res is error, msg = "A handshake executor without threads should fail the listener start");
+}
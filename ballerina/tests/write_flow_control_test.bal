@@ -0,0 +1,152 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/test;
+
+const int SLOW_READER_PORT = 3015;
+const int SLOW_READER_CHUNK_SIZE = 65536;
+const int SLOW_READER_CHUNKS = 256;
+
+isolated int floodedChunks = 0;
+
+service on new Listener(SLOW_READER_PORT) {
+
+    isolated remote function onConnect(Caller caller) returns ConnectionService {
+        return new FloodService();
+    }
+}
+
+service class FloodService {
+    *ConnectionService;
+
+    remote function onBytes(Caller caller, readonly & byte[] data) returns Error? {
+        if 'string:fromBytes(data) == "flood" {
+            // Writes far more than the peer reads, keeping the channel unwritable for most of the time
+            _ = start flood(caller);
+            return;
+        }
+        check caller->writeBytes(data);
+    }
+}
+
+isolated function flood(Caller caller) {
+    byte[] chunk = [];
+    chunk.setLength(SLOW_READER_CHUNK_SIZE);
+    foreach int i in 0 ..< SLOW_READER_CHUNKS {
+        Error? result = caller->writeBytes(chunk);
+        if result is Error {
+            return;
+        }
+        lock {
+            floodedChunks += 1;
+        }
+    }
+}
+
+@test:Config {}
+function testWritesToSlowReader() returns error? {
+    // The client does not read, hence the server side channel turns unwritable once the socket buffers fill up
+    Client slowReader = check new ("localhost", SLOW_READER_PORT);
+    check slowReader->writeBytes("flood".toBytes());
+    // The first chunk arriving shows that the flood has started. The data flooded is far more than the socket buffers
+    // hold, so the rest of it stays pending until the slow reader reads again
+    readonly & byte[] firstData = check slowReader->readBytes();
+    int received = firstData.length();
+
+    // Other connections served by the same event loops must not be starved by the pending writes
+    foreach int i in 0 ..< 4 {
+        Client socketClient = check new ("localhost", SLOW_READER_PORT, timeout = 5);
+        string msg = string `Not starved ${i}`;
+        check socketClient->writeBytes(msg.toBytes());
+        readonly & byte[] receivedData = check socketClient->readBytes();
+        test:assertEquals('string:fromBytes(receivedData), msg, "Found unexpected output");
+        check socketClient->close();
+    }
+
+    lock {
+        test:assertTrue(floodedChunks < SLOW_READER_CHUNKS, "Expected the flood to be pending on the slow reader");
+    }
+
+    // The pending writes resume once the slow reader reads again, and every flooded byte is delivered
+    while received < SLOW_READER_CHUNK_SIZE * SLOW_READER_CHUNKS {
+        readonly & byte[] data = check slowReader->readBytes();
+        received += data.length();
+    }
+    test:assertEquals(received, SLOW_READER_CHUNK_SIZE * SLOW_READER_CHUNKS, "Found unexpected number of bytes");
+    check slowReader->close();
+}
+
+const int NON_READING_PORT = 3025;
+// Larger than the socket buffers at both ends can hold, so that a write of this size never completes
+const int OVERSIZED_WRITE_SIZE = 33554432;
+
+@test:Config {}
+function testBoundedWriteQueue() returns error? {
+    check startNonReadingServer();
+    Client socketClient = check new ("localhost", NON_READING_PORT, writeBuffer = {
+        highWaterMark: 16384,
+        lowWaterMark: 8192,
+        maxQueuedBytes: SLOW_READER_CHUNK_SIZE
+    });
+    byte[] data = [];
+    data.setLength(OVERSIZED_WRITE_SIZE);
+    readonly & byte[] readonlyData = data.cloneReadOnly();
+    // The peer never reads, so one write stays in the channel and at most one more in the queue, while the others are
+    // rejected. The accepted writes never complete, hence the first write to complete is a rejected one
+    future<boolean> first = start isRejected(socketClient, readonlyData);
+    future<boolean> second = start isRejected(socketClient, readonlyData);
+    future<boolean> third = start isRejected(socketClient, readonlyData);
+    boolean rejected = wait first | second | third;
+    check socketClient->close();
+    check stopNonReadingServer();
+    test:assertTrue(rejected, "Expected a write to be rejected by the bounded write queue");
+}
+
+@test:Config {dependsOn: [testBoundedWriteQueue]}
+function testBlockedWriteTimeout() returns error? {
+    check startNonReadingServer();
+    Client socketClient = check new ("localhost", NON_READING_PORT, writeTimeout = 1, writeBuffer = {
+        highWaterMark: 16384,
+        lowWaterMark: 8192,
+        maxQueuedBytes: SLOW_READER_CHUNK_SIZE,
+        overflowPolicy: BLOCK
+    });
+    byte[] data = [];
+    data.setLength(OVERSIZED_WRITE_SIZE);
+    // The first write never leaves the channel and the second one stays in the queue, so the third one blocks on the
+    // full queue. Each of them must fail once its write timeout expires
+    Error? first = socketClient->writeBytes(data);
+    test:assertTrue(first is Error, msg = "Expected the write held by the channel to time out");
+    Error? second = socketClient->writeBytes("queued".toBytes());
+    test:assertTrue(second is Error, msg = "Expected the queued write to time out");
+    Error? third = socketClient->writeBytes("blocked".toBytes());
+    test:assertTrue(third is Error, msg = "Expected the write blocked on the full queue to time out");
+    check socketClient->close();
+    check stopNonReadingServer();
+}
+
+isolated function isRejected(Client socketClient, readonly & byte[] data) returns boolean {
+    return socketClient->writeBytes(data) is BackpressureError;
+}
+
+function startNonReadingServer() returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.tcp.testutils.TestUtils"
+} external;
+
+function stopNonReadingServer() returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.tcp.testutils.TestUtils"
+} external;
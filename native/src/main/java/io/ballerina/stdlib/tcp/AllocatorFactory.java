@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.AdaptiveRecvByteBufAllocator;
+import io.netty.channel.FixedRecvByteBufAllocator;
+import io.netty.channel.RecvByteBufAllocator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link AllocatorFactory} creates the buffer allocators configured for the listener and client channels.
+ */
+public final class AllocatorFactory {
+
+    // Allocators hold the memory arenas, hence a single instance is shared by all channels with the same settings
+    private static final Map<String, ByteBufAllocator> allocators = new ConcurrentHashMap<>();
+
+    private AllocatorFactory() {}
+
+    public static ByteBufAllocator getAllocator(BMap<BString, Object> bufferConfig) {
+        boolean pooled = Constants.ALLOCATOR_POOLED.equals(
+                bufferConfig.getStringValue(Constants.BUFFER_CONFIG_ALLOCATOR).getValue());
+        boolean preferDirect = bufferConfig.getBooleanValue(Constants.BUFFER_CONFIG_PREFER_DIRECT);
+        if (!pooled) {
+            return allocators.computeIfAbsent("unpooled:" + preferDirect,
+                    key -> new UnpooledByteBufAllocator(preferDirect));
+        }
+        int arenas = bufferConfig.containsKey(Constants.BUFFER_CONFIG_ARENAS) ?
+                bufferConfig.getIntValue(Constants.BUFFER_CONFIG_ARENAS).intValue() : -1;
+        return allocators.computeIfAbsent("pooled:" + preferDirect + ":" + arenas,
+                key -> createPooledAllocator(preferDirect, arenas));
+    }
+
+    private static ByteBufAllocator createPooledAllocator(boolean preferDirect, int arenas) {
+        int heapArenas = arenas < 0 ? PooledByteBufAllocator.defaultNumHeapArena() : arenas;
+        int directArenas = arenas < 0 ? PooledByteBufAllocator.defaultNumDirectArena() : arenas;
+        return new PooledByteBufAllocator(preferDirect, heapArenas, directArenas,
+                PooledByteBufAllocator.defaultPageSize(), PooledByteBufAllocator.defaultMaxOrder(),
+                PooledByteBufAllocator.defaultSmallCacheSize(), PooledByteBufAllocator.defaultNormalCacheSize(),
+                PooledByteBufAllocator.defaultUseCacheForAllThreads());
+    }
+
+    /**
+     * Creates the receive buffer allocator for the configured receive buffer size. An `int` value gives a fixed size,
+     * while a size range lets the buffer adapt to the amount of data read in each read operation.
+     *
+     * @param bufferConfig buffer configurations
+     * @return the receive buffer allocator or null if the receive buffer size is not configured
+     */
+    public static RecvByteBufAllocator getReceiveBufferAllocator(BMap<BString, Object> bufferConfig) {
+        Object receiveBufferSize = bufferConfig.get(Constants.BUFFER_CONFIG_RECEIVE_BUFFER_SIZE);
+        if (receiveBufferSize instanceof Long) {
+            return new FixedRecvByteBufAllocator(((Long) receiveBufferSize).intValue());
+        }
+        if (receiveBufferSize instanceof BMap) {
+            BMap<BString, Object> range = (BMap<BString, Object>) receiveBufferSize;
+            return new AdaptiveRecvByteBufAllocator(
+                    range.getIntValue(Constants.RECEIVE_BUFFER_SIZE_MINIMUM).intValue(),
+                    range.getIntValue(Constants.RECEIVE_BUFFER_SIZE_INITIAL).intValue(),
+                    range.getIntValue(Constants.RECEIVE_BUFFER_SIZE_MAXIMUM).intValue());
+        }
+        return null;
+    }
+}
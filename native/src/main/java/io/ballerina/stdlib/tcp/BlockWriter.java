@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link BlockWriter} pipelines the writes of a stream of blocks. Each block is enqueued to the write queue of the
+ * client without waiting for it to be written, and the writer only waits once the bytes of the pending writes reach
+ * the limit of the client, which is when the channel stays unwritable. The outcome of all the writes is reported once,
+ * when the writer completes.
+ */
+public class BlockWriter {
+
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final Condition writeCompleted = pendingLock.newCondition();
+    private final AtomicReference<BError> failure = new AtomicReference<>();
+    private final TcpClient tcpClient;
+    private final double writeTimeoutInSec;
+    private final long maxPendingBytes;
+    private long pendingBytes;
+    private int pendingWrites;
+
+    public BlockWriter(TcpClient tcpClient, double writeTimeoutInSec) {
+        this.tcpClient = tcpClient;
+        this.writeTimeoutInSec = writeTimeoutInSec;
+        this.maxPendingBytes = tcpClient.getMaxPendingWriteBytes();
+    }
+
+    /**
+     * Enqueues the given block to be written. Mutable blocks are copied while being enqueued, hence the stream may
+     * reuse the array for its next block. Must not be invoked from an event loop.
+     *
+     * @param block the block to be written
+     * @return the error of a failed write of a previous block, or else null
+     */
+    public BError write(BArray block) {
+        BError error = failure.get();
+        if (error != null) {
+            return error;
+        }
+        long size = block.getLength();
+        try {
+            reserve(size);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Utils.createTcpError("Interrupted while waiting for the pending writes");
+        }
+        CompletableFuture<Object> callback = new CompletableFuture<>();
+        callback.whenComplete((result, throwable) -> {
+            if (result instanceof BError) {
+                failure.compareAndSet(null, (BError) result);
+            }
+            release(size);
+        });
+        tcpClient.writeData(block, callback, writeTimeoutInSec);
+        return null;
+    }
+
+    /**
+     * Waits until all the pending writes are completed. Must not be invoked from an event loop.
+     *
+     * @return the error of the first failed write, or else null
+     */
+    public BError complete() {
+        pendingLock.lock();
+        try {
+            while (pendingWrites > 0) {
+                writeCompleted.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Utils.createTcpError("Interrupted while waiting for the pending writes");
+        } finally {
+            pendingLock.unlock();
+        }
+        return failure.get();
+    }
+
+    // A block larger than the limit is still written once nothing else is pending, so that it never waits forever
+    private void reserve(long size) throws InterruptedException {
+        pendingLock.lock();
+        try {
+            while (pendingWrites > 0 && pendingBytes + size > maxPendingBytes) {
+                writeCompleted.await();
+            }
+            pendingBytes += size;
+            pendingWrites++;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private void release(long size) {
+        pendingLock.lock();
+        try {
+            pendingBytes -= size;
+            pendingWrites--;
+            writeCompleted.signalAll();
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+}
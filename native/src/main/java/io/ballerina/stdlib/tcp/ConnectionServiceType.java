@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.Type;
+
+/**
+ * {@link ConnectionServiceType} holds the remote methods of a connection service type. The methods, their parameter
+ * types and isolation are resolved once per type, so that dispatching a message does not look them up again.
+ */
+public class ConnectionServiceType {
+
+    private final Type[] onBytesParameterTypes;
+    private final StrandMetadata onBytesMetadata;
+    private final StrandMetadata onErrorMetadata;
+    private final StrandMetadata onCloseMetadata;
+
+    ConnectionServiceType(ObjectType objectType) {
+        Type[] onBytesParameterTypes = null;
+        boolean hasOnError = false;
+        boolean hasOnClose = false;
+        for (MethodType method : objectType.getMethods()) {
+            switch (method.getName()) {
+                case Constants.ON_BYTES:
+                    Parameter[] parameters = method.getType().getParameters();
+                    onBytesParameterTypes = new Type[parameters.length];
+                    for (int i = 0; i < parameters.length; i++) {
+                        onBytesParameterTypes[i] = parameters[i].type;
+                    }
+                    break;
+                case Constants.ON_ERROR:
+                    hasOnError = true;
+                    break;
+                case Constants.ON_CLOSE:
+                    hasOnClose = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        this.onBytesParameterTypes = onBytesParameterTypes;
+        this.onBytesMetadata = onBytesParameterTypes != null ? getStrandMetadata(objectType, Constants.ON_BYTES) : null;
+        this.onErrorMetadata = hasOnError ? getStrandMetadata(objectType, Constants.ON_ERROR) : null;
+        this.onCloseMetadata = hasOnClose ? getStrandMetadata(objectType, Constants.ON_CLOSE) : null;
+    }
+
+    static StrandMetadata getStrandMetadata(ObjectType objectType, String remoteMethod) {
+        return new StrandMetadata(objectType.isIsolated() && objectType.isIsolated(remoteMethod), null);
+    }
+
+    // Parameter types of the onBytes method, or null if the service does not have one
+    public Type[] getOnBytesParameterTypes() {
+        return onBytesParameterTypes;
+    }
+
+    public StrandMetadata getOnBytesMetadata() {
+        return onBytesMetadata;
+    }
+
+    public boolean hasOnError() {
+        return onErrorMetadata != null;
+    }
+
+    public StrandMetadata getOnErrorMetadata() {
+        return onErrorMetadata;
+    }
+
+    public boolean hasOnClose() {
+        return onCloseMetadata != null;
+    }
+
+    public StrandMetadata getOnCloseMetadata() {
+        return onCloseMetadata;
+    }
+}
@@ -31,14 +31,61 @@ public class Constants {
     public static final String CONFIG_READ_TIMEOUT = "timeout";
     public static final String CONFIG_WRITE_TIMEOUT = "writeTimeout";
 
+    // Constants related to transport selection
+    public static final String TRANSPORT_AUTO = "AUTO";
+    public static final String TRANSPORT_NIO = "NIO";
+    public static final String TRANSPORT_EPOLL = "EPOLL";
+
+    // Constants related to listener config
+    public static final BString CONFIG_ACCEPTORS = StringUtils.fromString("acceptors");
+    public static final BString CONFIG_DISPATCH_MODE = StringUtils.fromString("dispatchMode");
+    public static final String DISPATCH_MODE_ORDERED = "ORDERED";
+    public static final BString CONFIG_MAX_IN_FLIGHT_ON_BYTES = StringUtils.fromString("maxInFlightOnBytes");
+
+    // Constants related to event loop config
+    public static final BString EVENT_LOOP = StringUtils.fromString("eventLoop");
+    public static final BString EVENT_LOOP_NAME = StringUtils.fromString("name");
+    public static final BString EVENT_LOOP_ACCEPTOR_THREADS = StringUtils.fromString("acceptorThreads");
+    public static final BString EVENT_LOOP_IO_THREADS = StringUtils.fromString("ioThreads");
+
+    // Constants related to buffer config
+    public static final BString BUFFER_CONFIG = StringUtils.fromString("bufferConfig");
+    public static final BString BUFFER_CONFIG_ALLOCATOR = StringUtils.fromString("allocator");
+    public static final BString BUFFER_CONFIG_PREFER_DIRECT = StringUtils.fromString("preferDirect");
+    public static final BString BUFFER_CONFIG_ARENAS = StringUtils.fromString("arenas");
+    public static final BString BUFFER_CONFIG_RECEIVE_BUFFER_SIZE = StringUtils.fromString("receiveBufferSize");
+    public static final BString RECEIVE_BUFFER_SIZE_MINIMUM = StringUtils.fromString("minimum");
+    public static final BString RECEIVE_BUFFER_SIZE_INITIAL = StringUtils.fromString("initial");
+    public static final BString RECEIVE_BUFFER_SIZE_MAXIMUM = StringUtils.fromString("maximum");
+    public static final String ALLOCATOR_POOLED = "POOLED";
+
+    // Constants related to write config
+    public static final BString CONFIG_WRITE_COALESCING = StringUtils.fromString("writeCoalescing");
+    public static final BString WRITE_COALESCING_MAX_PENDING_BYTES = StringUtils.fromString("maxPendingBytes");
+    public static final BString CONFIG_WRITE_BUFFER = StringUtils.fromString("writeBuffer");
+    public static final BString WRITE_BUFFER_HIGH_WATER_MARK = StringUtils.fromString("highWaterMark");
+    public static final BString WRITE_BUFFER_LOW_WATER_MARK = StringUtils.fromString("lowWaterMark");
+    public static final BString WRITE_BUFFER_MAX_QUEUED_BYTES = StringUtils.fromString("maxQueuedBytes");
+    public static final BString WRITE_BUFFER_OVERFLOW_POLICY = StringUtils.fromString("overflowPolicy");
+
+    // Constants related to framing config
+    public static final BString CONFIG_FRAMING = StringUtils.fromString("framing");
+    public static final BString FRAMING_LENGTH_FIELD_LENGTH = StringUtils.fromString("lengthFieldLength");
+    public static final BString FRAMING_LENGTH_FIELD_OFFSET = StringUtils.fromString("lengthFieldOffset");
+    public static final BString FRAMING_BYTE_ORDER = StringUtils.fromString("byteOrder");
+    public static final BString FRAMING_MAX_FRAME_LENGTH = StringUtils.fromString("maxFrameLength");
+    public static final String BYTE_ORDER_LITTLE_ENDIAN = "LITTLE_ENDIAN";
+    public static final BString FRAMING_DELIMITERS = StringUtils.fromString("delimiters");
+    public static final BString FRAMING_STRIP_DELIMITER = StringUtils.fromString("stripDelimiter");
+
     // constant listener handler names
     public static final String LISTENER_HANDLER = "listenerHandler";
-    public static final String READ_TIMEOUT_HANDLER = "readTimeoutHandler";
-    public static final String WRITE_TIMEOUT_HANDLER = "writeTimeoutHandler";
     public static final String CLIENT_HANDLER = "clientHandler";
     public static final String SSL_HANDLER = "SSL_Handler";
     public static final String SSL_HANDSHAKE_HANDLER = "SSL_handshakeHandler";
     public static final String FLOW_CONTROL_HANDLER = "flowControlHandler";
+    public static final String FRAME_DECODER = "frameDecoder";
+    public static final String FRAME_ENCODER = "frameEncoder";
 
 
     // Remote method names and method param types
@@ -63,6 +110,7 @@ public class Constants {
     public static final String LOCAL_PORT = "localPort";
     public static final String SERVICE = "Service";
     public static final String CLIENT = "Client";
+    public static final String BLOCK_WRITER = "BlockWriter";
     public static final String CALLER_ID = "id";
     public static final String CONNECTION_SERVICE = "ConnectionService";
 
@@ -85,6 +133,15 @@ public class Constants {
     public static final BString SECURESOCKET_CONFIG_CIPHERS = StringUtils.fromString("ciphers");
     public static final BString SECURESOCKET_CONFIG_HANDSHAKE_TIMEOUT = StringUtils.fromString("handshakeTimeout");
     public static final BString SECURESOCKET_CONFIG_SESSION_TIMEOUT = StringUtils.fromString("sessionTimeout");
+    public static final BString SECURESOCKET_CONFIG_SESSION_CACHE_SIZE = StringUtils.fromString("sessionCacheSize");
+    public static final BString SECURESOCKET_CONFIG_PROVIDER = StringUtils.fromString("provider");
+    public static final BString SECURESOCKET_CONFIG_SESSION_TICKETS = StringUtils.fromString("sessionTickets");
+    public static final BString SESSION_TICKETS_ENABLE = StringUtils.fromString("enable");
+    public static final BString SESSION_TICKETS_KEY_ROTATION_INTERVAL = StringUtils.fromString("keyRotationInterval");
+    public static final BString SECURESOCKET_CONFIG_HANDSHAKE_EXECUTOR = StringUtils.fromString("handshakeExecutor");
+    public static final BString HANDSHAKE_EXECUTOR_THREADS = StringUtils.fromString("threads");
+    public static final BString HANDSHAKE_EXECUTOR_MAX_QUEUED_TASKS = StringUtils.fromString("maxQueuedTasks");
+    public static final String SSL_PROVIDER_OPENSSL = "OPENSSL";
     public static final String HTTPS_SCHEME = "http";
     public static final String TCP = "tcp";
 
@@ -96,7 +153,8 @@ public class Constants {
      */
     public enum ErrorType {
 
-        Error("Error");
+        Error("Error"),
+        BackpressureError("BackpressureError");
 
         private String errorType;
 
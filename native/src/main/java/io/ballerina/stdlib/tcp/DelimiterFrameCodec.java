@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.DelimiterBasedFrameDecoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * {@link DelimiterFrameCodec} splits the inbound byte stream on the configured delimiters. When the delimiters are
+ * stripped from the inbound frames, the first delimiter is appended to each outbound message. Line delimiters are
+ * scanned natively by netty's line based decoder.
+ */
+public class DelimiterFrameCodec extends FrameCodec {
+
+    private final ByteBuf[] delimiters;
+    private final int maxFrameLength;
+    private final boolean stripDelimiter;
+    private final DelimiterEncoder encoder;
+
+    DelimiterFrameCodec(BMap<BString, Object> framing) {
+        BArray delimiterValues = framing.getArrayValue(Constants.FRAMING_DELIMITERS);
+        if (delimiterValues.size() == 0) {
+            throw new IllegalArgumentException("at least one delimiter must be given");
+        }
+        this.delimiters = new ByteBuf[delimiterValues.size()];
+        for (int i = 0; i < delimiters.length; i++) {
+            byte[] delimiter = getBytes(delimiterValues.get(i));
+            if (delimiter.length == 0) {
+                throw new IllegalArgumentException("delimiters must not be empty");
+            }
+            delimiters[i] = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(delimiter));
+        }
+        this.maxFrameLength = framing.getIntValue(Constants.FRAMING_MAX_FRAME_LENGTH).intValue();
+        if (maxFrameLength <= 0) {
+            throw new IllegalArgumentException("maxFrameLength must be a positive value");
+        }
+        this.stripDelimiter = framing.getBooleanValue(Constants.FRAMING_STRIP_DELIMITER);
+        this.encoder = stripDelimiter ? new DelimiterEncoder(delimiters[0]) : null;
+    }
+
+    private static byte[] getBytes(Object delimiter) {
+        if (delimiter instanceof BString) {
+            return ((BString) delimiter).getValue().getBytes(StandardCharsets.UTF_8);
+        }
+        return ((BArray) delimiter).getBytes();
+    }
+
+    @Override
+    public void addHandlers(ChannelPipeline pipeline) {
+        // The decoder only reads the delimiters through slices of its own, hence they are shared by all the channels
+        pipeline.addLast(Constants.FRAME_DECODER, new DelimiterBasedFrameDecoder(maxFrameLength, stripDelimiter, true,
+                delimiters));
+        if (encoder != null) {
+            pipeline.addLast(Constants.FRAME_ENCODER, encoder);
+        }
+    }
+
+    /**
+     * Appends the delimiter to each outbound message without copying the message.
+     */
+    @ChannelHandler.Sharable
+    private static class DelimiterEncoder extends MessageToMessageEncoder<ByteBuf> {
+
+        private final ByteBuf delimiter;
+
+        DelimiterEncoder(ByteBuf delimiter) {
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        protected void encode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
+            out.add(msg.retain());
+            out.add(delimiter.duplicate());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link DispatchQueue} runs the remote method calls of a connection one at a time, in the order they were
+ * dispatched. The calls are run by a single virtual thread, which is started when the queue turns non-empty and ends
+ * once the queue is drained, so that an idle connection does not hold a thread.
+ */
+public class DispatchQueue implements Executor {
+
+    private final Queue<Runnable> pendingCalls = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isDraining = new AtomicBoolean(false);
+
+    @Override
+    public void execute(Runnable call) {
+        pendingCalls.offer(call);
+        if (isDraining.compareAndSet(false, true)) {
+            Thread.startVirtualThread(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            Runnable call;
+            while ((call = pendingCalls.poll()) != null) {
+                call.run();
+            }
+            isDraining.set(false);
+            // A call offered after the last poll but before the flag was reset would not start another drain
+        } while (!pendingCalls.isEmpty() && isDraining.compareAndSet(false, true));
+    }
+}
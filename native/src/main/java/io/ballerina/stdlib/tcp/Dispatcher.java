@@ -21,13 +21,9 @@ package io.ballerina.stdlib.tcp;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.MethodType;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Parameter;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
@@ -37,7 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
-import java.util.Arrays;
+import java.util.concurrent.Executor;
 
 /**
  * Dispatch async methods.
@@ -46,49 +42,53 @@ public class Dispatcher {
 
     private static final Logger log = LoggerFactory.getLogger(Dispatcher.class);
 
-    private static void invokeOnBytes(TcpService tcpService, ByteBuf buffer, Channel channel, Type[] parameterTypes) {
+    // Runs each remote method call on a virtual thread of its own
+    public static final Executor CONCURRENT_EXECUTOR = Thread::startVirtualThread;
+
+    private static void invokeOnBytes(TcpConnection connection, ByteBuf buffer, ConnectionServiceType serviceType) {
         try {
-            Object[] params = getOnBytesSignature(buffer, channel, tcpService, parameterTypes);
-            BObject connService = tcpService.getConnectionService();
-            invokeAsyncCall(connService, Constants.ON_BYTES, tcpService, channel, false, params);
+            Object[] params = getOnBytesSignature(buffer, connection, serviceType.getOnBytesParameterTypes());
+            BObject connService = connection.getConnectionService();
+            invokeAsyncCall(connService, Constants.ON_BYTES, serviceType.getOnBytesMetadata(), connection, false,
+                    params, connection.getOnBytesCompletion());
         } catch (BError e) {
-            Dispatcher.invokeOnError(tcpService, e.getMessage());
+            connection.getOnBytesCompletion().run();
+            Dispatcher.invokeOnError(connection, e.getMessage());
         }
     }
 
-    public static void invokeOnError(TcpService tcpService, String message) {
-        if (tcpService.getConnectionService() == null) {
+    public static void invokeOnError(TcpConnection connection, String message) {
+        invokeOnError(connection, Utils.createTcpError(message));
+    }
+
+    public static void invokeOnError(TcpConnection connection, BError error) {
+        if (connection.getConnectionService() == null) {
             return;
         }
         try {
-            ObjectType objectType =
-                    (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(tcpService.getConnectionService()));
-            MethodType methodType = Arrays.stream(objectType.getMethods())
-                    .filter(m -> m.getName().equals(Constants.ON_ERROR)).findFirst().orElse(null);
-            if (methodType != null) {
-                Object[] params = getOnErrorSignature(message);
-                BObject connService = tcpService.getConnectionService();
-                invokeAsyncCall(connService, Constants.ON_ERROR, tcpService, null, false, params);
+            ConnectionServiceType serviceType = connection.getConnectionServiceType();
+            if (serviceType.hasOnError()) {
+                Object[] params = getOnErrorSignature(error);
+                BObject connService = connection.getConnectionService();
+                invokeAsyncCall(connService, Constants.ON_ERROR, serviceType.getOnErrorMetadata(), connection, false,
+                        params, null);
             }
         } catch (Throwable t) {
             log.error("Error while executing onError function", t);
         }
     }
 
-    private static Object[] getOnBytesSignature(ByteBuf buffer, Channel channel, TcpService tcpService,
-                                                Type[] parameterTypes) {
-        byte[] byteContent = new byte[buffer.readableBytes()];
-        buffer.readBytes(byteContent);
+    private static Object[] getOnBytesSignature(ByteBuf buffer, TcpConnection connection, Type[] parameterTypes) {
         Object[] bValues = new Object[parameterTypes.length];
         int index = 0;
         for (Type param : parameterTypes) {
             int paramTag = param.getTag();
             switch (paramTag) {
                 case TypeTags.INTERSECTION_TAG:
-                    bValues[index++] = ValueCreator.createReadonlyArrayValue(byteContent);
+                    bValues[index++] = Utils.returnReadOnlyBytes(buffer);
                     break;
                 case TypeTags.OBJECT_TYPE_TAG:
-                    bValues[index++] = createClient(channel, tcpService);
+                    bValues[index++] = connection.getCaller();
                     break;
                 default:
                     break;
@@ -97,11 +97,11 @@ public class Dispatcher {
         return bValues;
     }
 
-    private static Object[] getOnErrorSignature(String message) {
-        return new Object[]{Utils.createTcpError(message)};
+    private static Object[] getOnErrorSignature(BError error) {
+        return new Object[]{error};
     }
 
-    private static BObject createClient(Channel channel, TcpService tcpService) {
+    private static BObject createClient(Channel channel) {
         InetSocketAddress remoteAddress = (InetSocketAddress) channel.remoteAddress();
         InetSocketAddress localAddress = (InetSocketAddress) channel.localAddress();
         final BObject caller = ValueCreator.createObjectValue(Utils.getTcpPackage(), Constants.CALLER,
@@ -109,60 +109,66 @@ public class Dispatcher {
                 StringUtils.fromString(localAddress.getHostName()),
                 localAddress.getPort(), StringUtils.fromString(channel.id().asLongText()));
         caller.addNativeData(Constants.CHANNEL, channel);
-        caller.addNativeData(Constants.SERVICE, tcpService);
         caller.addNativeData(Constants.CALLER_ID, channel.id().asLongText());
         return caller;
     }
 
-    public static void invokeRead(TcpService tcpService, ByteBuf buffer, Channel channel) {
-        ObjectType objectType =
-                (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(tcpService.getConnectionService()));
-        for (MethodType method : objectType.getMethods()) {
-            if (method.getName().equals(Constants.ON_BYTES)) {
-                Parameter[] parameters = method.getType().getParameters();
-                Type[] parameterTypes = new Type[parameters.length];
-                for (int i = 0; i < parameters.length; i++) {
-                    parameterTypes[i] = parameters[i].type;
-                }
-                Dispatcher.invokeOnBytes(tcpService, buffer, channel, parameterTypes);
-            }
+    /**
+     * Dispatches the received data to the onBytes method of the connection service. Must be invoked from the event
+     * loop of the connection.
+     *
+     * @param connection the connection the data was received from
+     * @param buffer the received data
+     */
+    public static void invokeRead(TcpConnection connection, ByteBuf buffer) {
+        ConnectionServiceType serviceType = connection.getConnectionServiceType();
+        if (serviceType.getOnBytesParameterTypes() != null) {
+            connection.onBytesDispatched();
+            Dispatcher.invokeOnBytes(connection, buffer, serviceType);
         }
     }
 
-    public static void invokeOnConnect(TcpService tcpService, Channel channel) {
+    public static void invokeOnConnect(TcpConnection connection) {
         try {
-            Object[] params = getOnConnectSignature(channel, tcpService);
-            BObject balService = tcpService.getService();
-            invokeAsyncCall(balService, Constants.ON_CONNECT, tcpService, channel, true, params);
+            Object[] params = getOnConnectSignature(connection);
+            TcpService tcpService = connection.getTcpService();
+            invokeAsyncCall(tcpService.getService(), Constants.ON_CONNECT, tcpService.getOnConnectMetadata(),
+                    connection, true, params, null);
         } catch (BError e) {
-            Dispatcher.invokeOnError(tcpService, e.getMessage());
+            Dispatcher.invokeOnError(connection, e.getMessage());
         }
     }
 
-    private static void invokeAsyncCall(BObject balService, String methodName, TcpService tcpService, Channel channel,
-                                        boolean isOnConnectInvoked, Object[] params) {
-        Thread.startVirtualThread(() -> {
+    // The onConnect call runs on a strand of its own, while the calls of the connection service are run by the
+    // dispatch executor of the connection
+    private static void invokeAsyncCall(BObject balService, String methodName, StrandMetadata metadata,
+                                        TcpConnection connection, boolean isOnConnectInvoked, Object[] params,
+                                        Runnable onComplete) {
+        Executor executor = isOnConnectInvoked ? CONCURRENT_EXECUTOR : connection.getDispatchExecutor();
+        executor.execute(() -> {
             try {
-                Object result = tcpService.getRuntime().callMethod(balService, methodName,
-                        new StrandMetadata(isIsolated(balService, methodName), null), params);
-                handleResult(result, channel, tcpService, isOnConnectInvoked);
+                Object result = connection.getTcpService().getRuntime().callMethod(balService, methodName, metadata,
+                        params);
+                handleResult(result, connection, isOnConnectInvoked);
             } catch (BError error) {
                 handleError(error);
             } catch (Throwable throwable) {
                 handleError(ErrorCreator.createError(throwable));
+            } finally {
+                if (onComplete != null) {
+                    onComplete.run();
+                }
             }
         });
     }
 
-    private static void handleResult(Object result, Channel channel, TcpService tcpService ,
-                                     boolean isOnConnectInvoked) {
+    private static void handleResult(Object result, TcpConnection connection, boolean isOnConnectInvoked) {
         if (result instanceof BArray) {
             // call writeBytes if the service returns byte[]
-            byte[] byteContent = ((BArray) result).getBytes();
-            TcpListener.send(byteContent, channel, tcpService);
+            TcpListener.send((BArray) result, connection);
         } else if (isOnConnectInvoked) {
-            tcpService.setConnectionService((BObject) result);
-            TcpListener.resumeRead(channel);
+            connection.setConnectionService((BObject) result);
+            TcpListener.resumeRead(connection.getChannel());
         } else if (result instanceof BError) {
             ((BError) result).printStackTrace();
         }
@@ -173,35 +179,29 @@ public class Dispatcher {
         bError.printStackTrace();
     }
 
-    private static Object[] getOnConnectSignature(Channel channel, TcpService tcpService) {
-        BObject caller = createClient(channel, tcpService);
+    private static Object[] getOnConnectSignature(TcpConnection connection) {
+        BObject caller = createClient(connection.getChannel());
+        connection.setCaller(caller);
         return new Object[]{caller};
     }
 
-    public static void invokeOnClose(TcpService tcpService) {
-        if (tcpService.getConnectionService() == null) {
+    public static void invokeOnClose(TcpConnection connection) {
+        if (connection.getConnectionService() == null) {
             return;
         }
         try {
-            ObjectType objectType =
-                    (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(tcpService.getConnectionService()));
-            MethodType methodType = Arrays.stream(objectType.getMethods())
-                    .filter(m -> m.getName().equals(Constants.ON_CLOSE)).findFirst().orElse(null);
-            if (methodType != null) {
+            ConnectionServiceType serviceType = connection.getConnectionServiceType();
+            if (serviceType.hasOnClose()) {
                 Object[] params = {};
-                BObject balService = tcpService.getConnectionService();
-                invokeAsyncCall(balService, Constants.ON_CLOSE, tcpService, null, false, params);
+                BObject balService = connection.getConnectionService();
+                invokeAsyncCall(balService, Constants.ON_CLOSE, serviceType.getOnCloseMetadata(), connection, false,
+                        params, null);
             }
         } catch (BError e) {
-            Dispatcher.invokeOnError(tcpService, e.getMessage());
+            Dispatcher.invokeOnError(connection, e.getMessage());
         }
     }
 
-    private static boolean isIsolated(BObject serviceObj, String remoteMethod) {
-        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(serviceObj));
-        return objectType.isIsolated() && objectType.isIsolated(remoteMethod);
-    }
-
     private Dispatcher() {}
 }
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.channel.ChannelPipeline;
+
+/**
+ * {@link FrameCodec} splits the inbound byte stream of a connection into messages and frames the outbound messages,
+ * so that each onBytes call and each readBytes call gets exactly one complete message.
+ */
+public abstract class FrameCodec {
+
+    /**
+     * Creates the frame codec for the framing configured for a listener or a client.
+     *
+     * @param config listener or client configurations
+     * @return the frame codec or null if framing is not configured
+     */
+    public static FrameCodec fromConfig(BMap<BString, Object> config) {
+        BMap<BString, Object> framing = (BMap<BString, Object>) config.getMapValue(Constants.CONFIG_FRAMING);
+        if (framing == null) {
+            return null;
+        }
+        if (framing.containsKey(Constants.FRAMING_DELIMITERS)) {
+            return new DelimiterFrameCodec(framing);
+        }
+        return new LengthFieldFrameCodec(framing);
+    }
+
+    /**
+     * Adds the frame decoder and encoder to the end of the pipeline of a new channel. The decoder is stateful, hence
+     * each channel gets instances of its own.
+     *
+     * @param pipeline the channel pipeline
+     */
+    public abstract void addHandlers(ChannelPipeline pipeline);
+}
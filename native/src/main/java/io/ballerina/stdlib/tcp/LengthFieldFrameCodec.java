@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.LengthFieldPrepender;
+
+import java.nio.ByteOrder;
+
+/**
+ * {@link LengthFieldFrameCodec} frames the messages with a length field holding the number of bytes in the message.
+ * Without a header before the length field, the length field is stripped from the inbound frames and prepended to
+ * the outbound messages. With a header, the frames are delivered whole, and the outbound messages are expected to be
+ * complete frames.
+ */
+public class LengthFieldFrameCodec extends FrameCodec {
+
+    private final int lengthFieldLength;
+    private final int lengthFieldOffset;
+    private final ByteOrder byteOrder;
+    private final int maxFrameLength;
+    private final LengthFieldPrepender prepender;
+
+    LengthFieldFrameCodec(BMap<BString, Object> framing) {
+        this.lengthFieldLength = framing.getIntValue(Constants.FRAMING_LENGTH_FIELD_LENGTH).intValue();
+        this.lengthFieldOffset = framing.getIntValue(Constants.FRAMING_LENGTH_FIELD_OFFSET).intValue();
+        this.byteOrder = Constants.BYTE_ORDER_LITTLE_ENDIAN.equals(
+                framing.getStringValue(Constants.FRAMING_BYTE_ORDER).getValue()) ?
+                ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        this.maxFrameLength = framing.getIntValue(Constants.FRAMING_MAX_FRAME_LENGTH).intValue();
+        if (lengthFieldLength != 1 && lengthFieldLength != 2 && lengthFieldLength != 3 && lengthFieldLength != 4
+                && lengthFieldLength != 8) {
+            throw new IllegalArgumentException("lengthFieldLength must be either 1, 2, 3, 4 or 8");
+        }
+        if (lengthFieldOffset < 0) {
+            throw new IllegalArgumentException("lengthFieldOffset must not be negative");
+        }
+        if (maxFrameLength <= lengthFieldOffset + lengthFieldLength) {
+            throw new IllegalArgumentException("maxFrameLength must be larger than the frame header");
+        }
+        // The prepender is stateless and shared by all the channels
+        this.prepender = lengthFieldOffset == 0 ? new LengthFieldPrepender(byteOrder, lengthFieldLength, 0, false) :
+                null;
+    }
+
+    @Override
+    public void addHandlers(ChannelPipeline pipeline) {
+        int bytesToStrip = lengthFieldOffset == 0 ? lengthFieldLength : 0;
+        pipeline.addLast(Constants.FRAME_DECODER, new LengthFieldBasedFrameDecoder(byteOrder, maxFrameLength,
+                lengthFieldOffset, lengthFieldLength, 0, bytesToStrip, true));
+        if (prepender != null) {
+            pipeline.addLast(Constants.FRAME_ENCODER, prepender);
+        }
+    }
+}
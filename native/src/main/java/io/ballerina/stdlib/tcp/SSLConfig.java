@@ -59,6 +59,8 @@ public class SSLConfig {
     private String serverKeyPassword;
     private String clientKeyPassword;
     private int sessionTimeOut;
+    private int sessionCacheSize;
+    private boolean openSslPreferred;
     private long handshakeTimeOut;
     private boolean disableSsl = false;
     private boolean useJavaDefaults = false;
@@ -219,6 +221,22 @@ public class SSLConfig {
         this.sessionTimeOut = sessionTimeOut;
     }
 
+    public int getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    public void setSessionCacheSize(int sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    public boolean isOpenSslPreferred() {
+        return openSslPreferred;
+    }
+
+    public void setOpenSslPreferred(boolean openSslPreferred) {
+        this.openSslPreferred = openSslPreferred;
+    }
+
     public long getHandshakeTimeOut() {
         return handshakeTimeOut;
     }
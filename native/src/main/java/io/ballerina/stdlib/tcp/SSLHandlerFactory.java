@@ -18,10 +18,13 @@
 package io.ballerina.stdlib.tcp;
 
 import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.OpenSsl;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -43,6 +46,8 @@ import javax.net.ssl.TrustManagerFactory;
  */
 public class SSLHandlerFactory {
 
+    private static final Logger log = LoggerFactory.getLogger(SSLHandlerFactory.class);
+
     private SSLConfig sslConfig;
     private boolean needClientAuth;
     private boolean wantClientAuth;
@@ -124,9 +129,27 @@ public class SSLHandlerFactory {
         }
     }
 
+    /**
+     * Resolves the SSL provider for the configured provider. OpenSSL is used only when its native library can be loaded
+     * on the current platform, and the JDK provider is used otherwise.
+     *
+     * @return the SSL provider to be used
+     */
+    private SslProvider getSslProvider() {
+        if (!sslConfig.isOpenSslPreferred()) {
+            return SslProvider.JDK;
+        }
+        if (OpenSsl.isAvailable()) {
+            return SslProvider.OPENSSL;
+        }
+        log.warn("OpenSSL provider is not available, falling back to the JDK provider: {}",
+                OpenSsl.unavailabilityCause().getMessage());
+        return SslProvider.JDK;
+    }
+
     public SslContext createContextForClient() throws IOException {
         try {
-            SslProvider provider = SslProvider.JDK;
+            SslProvider provider = getSslProvider();
             SslContextBuilder sslContextBuilder;
             if (sslConfig.getClientTrustCertificates() != null) {
                 sslContextBuilder = clientContextBuilderWithCerts(provider);
@@ -140,10 +163,7 @@ public class SSLHandlerFactory {
             }
             setSslProtocol(sslContextBuilder);
             SslContext sslContext = sslContextBuilder.build();
-            int sessionTimeout = sslConfig.getSessionTimeOut();
-            if (sessionTimeout > 0) {
-                sslContext.sessionContext().setSessionTimeout(sessionTimeout);
-            }
+            configureSessionContext(sslContext);
             return sslContext;
         } catch (IOException | NoSuchAlgorithmException | KeyStoreException e) {
             throw new IOException("Failed to initialize the SSL context: " + describe(e), e);
@@ -158,7 +178,7 @@ public class SSLHandlerFactory {
 
     public SslContext createContextForServer() throws IOException {
         try {
-            SslProvider provider = SslProvider.JDK;
+            SslProvider provider = getSslProvider();
             SslContextBuilder sslContextBuilder;
             if (sslConfig.getServerCertificates() != null) {
                 sslContextBuilder = serverContextBuilderWithCerts(provider);
@@ -172,16 +192,23 @@ public class SSLHandlerFactory {
             }
             setSslProtocol(sslContextBuilder);
             SslContext sslContext = sslContextBuilder.build();
-            int sessionTimeout = sslConfig.getSessionTimeOut();
-            if (sessionTimeout > 0) {
-                sslContext.sessionContext().setSessionTimeout(sessionTimeout);
-            }
+            configureSessionContext(sslContext);
             return sslContext;
         } catch (IOException | NoSuchAlgorithmException | UnrecoverableKeyException | KeyStoreException e) {
             throw new IOException("Failed to initialize the SSL context: " + describe(e), e);
         }
     }
 
+    private void configureSessionContext(SslContext sslContext) {
+        int sessionTimeout = sslConfig.getSessionTimeOut();
+        if (sessionTimeout > 0) {
+            sslContext.sessionContext().setSessionTimeout(sessionTimeout);
+        }
+        if (sslConfig.getSessionCacheSize() > 0) {
+            sslContext.sessionContext().setSessionCacheSize(sslConfig.getSessionCacheSize());
+        }
+    }
+
     private void initializeKeyManagerFactory() throws IOException, NoSuchAlgorithmException, KeyStoreException,
             UnrecoverableKeyException {
         KeyStore ks = getKeyStore(sslConfig.getKeyStore(), sslConfig.getKeyStorePass());
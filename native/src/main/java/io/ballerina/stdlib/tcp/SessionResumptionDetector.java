@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
+import io.netty.internal.tcnative.SSL;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.net.ssl.SSLEngine;
+
+/**
+ * {@link SessionResumptionDetector} tells whether the handshake of an engine resumed an earlier session. The OpenSSL
+ * engines are asked directly. The JDK engines do not expose it, hence the IDs of the sessions established by the
+ * listener are kept, and a handshake ending with a session ID seen before resumed that session. The tickets of TLS 1.3
+ * carry session IDs of their own, so only the TLS 1.2 resumptions are detected with the JDK provider.
+ */
+public class SessionResumptionDetector {
+
+    // The default session cache size of the JDK, used when the cache of the context is unbounded
+    private static final int DEFAULT_MAX_SESSIONS = 20480;
+
+    private final Map<ByteBuffer, Boolean> knownSessionIds;
+
+    public SessionResumptionDetector(int sessionCacheSize) {
+        int maxSessions = sessionCacheSize > 0 ? sessionCacheSize : DEFAULT_MAX_SESSIONS;
+        // Sessions evicted from the cache of the context cannot be resumed, hence their IDs are evicted as well
+        this.knownSessionIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+                return size() > maxSessions;
+            }
+        };
+    }
+
+    /**
+     * Returns whether the completed handshake of the given engine resumed an earlier session. Must be invoked once per
+     * handshake, since the session of a full handshake is recorded as a known one.
+     *
+     * @param engine the engine which completed the handshake
+     * @return true if the handshake resumed an earlier session
+     */
+    public boolean isResumed(SSLEngine engine) {
+        if (engine instanceof ReferenceCountedOpenSslEngine) {
+            return SSL.isSessionReused(((ReferenceCountedOpenSslEngine) engine).sslPointer());
+        }
+        byte[] sessionId = engine.getSession().getId();
+        if (sessionId == null || sessionId.length == 0) {
+            return false;
+        }
+        synchronized (knownSessionIds) {
+            return knownSessionIds.put(ByteBuffer.wrap(sessionId), Boolean.TRUE) != null;
+        }
+    }
+}
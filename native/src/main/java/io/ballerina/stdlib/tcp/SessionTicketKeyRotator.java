@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+
+import java.security.SecureRandom;
+
+/**
+ * {@link SessionTicketKeyRotator} replaces the keys protecting the stateless session tickets of a listener. Each run
+ * issues the new tickets with a fresh key, while the previous key is still accepted, so that the tickets issued just
+ * before a rotation can still resume their sessions.
+ */
+public class SessionTicketKeyRotator implements Runnable {
+
+    private static final int KEY_PART_LENGTH = 16;
+
+    private final SecureRandom random = new SecureRandom();
+    private final OpenSslSessionContext sessionContext;
+    private OpenSslSessionTicketKey currentKey;
+
+    public SessionTicketKeyRotator(OpenSslSessionContext sessionContext) {
+        this.sessionContext = sessionContext;
+    }
+
+    @Override
+    public void run() {
+        OpenSslSessionTicketKey newKey = new OpenSslSessionTicketKey(randomBytes(), randomBytes(), randomBytes());
+        if (currentKey == null) {
+            sessionContext.setTicketKeys(newKey);
+        } else {
+            // The first key encrypts the new tickets, while all of them decrypt the tickets presented by the clients
+            sessionContext.setTicketKeys(newKey, currentKey);
+        }
+        currentKey = newKey;
+    }
+
+    private byte[] randomBytes() {
+        byte[] bytes = new byte[KEY_PART_LENGTH];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.handler.ssl.SslContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SslContextCache} shares the SSL contexts of the clients with the same secure socket configurations. Building a
+ * context reads the trust material from the disk, hence it is built once and rebuilt only when the files change.
+ */
+public final class SslContextCache {
+
+    private static final Map<List<Object>, CachedContext> clientContexts = new ConcurrentHashMap<>();
+
+    private SslContextCache() {}
+
+    /**
+     * Returns the SSL context for the given client configurations, building it if it is not cached or if the trust
+     * material it was built from has been modified since.
+     *
+     * @param sslConfig client SSL configurations
+     * @return the SSL context
+     * @throws IOException if the SSL context cannot be built
+     */
+    public static SslContext getClientContext(SSLConfig sslConfig) throws IOException {
+        List<Object> key = Arrays.asList(sslConfig.getTrustStore(), sslConfig.getTrustStorePass(),
+                sslConfig.getClientTrustCertificates(), Arrays.asList(nullToEmpty(sslConfig.getCipherSuites())),
+                Arrays.asList(nullToEmpty(sslConfig.getEnableProtocols())), sslConfig.getSessionTimeOut(),
+                sslConfig.getSessionCacheSize(), sslConfig.isOpenSslPreferred());
+        List<Long> fileVersions = Arrays.asList(lastModified(sslConfig.getTrustStore()),
+                lastModified(sslConfig.getClientTrustCertificates()));
+        CachedContext cachedContext = clientContexts.get(key);
+        if (cachedContext != null && cachedContext.fileVersions.equals(fileVersions)) {
+            return cachedContext.sslContext;
+        }
+        // Contexts built concurrently for the same key are equivalent, hence the last one built is kept
+        SslContext sslContext = new SSLHandlerFactory(sslConfig).createContextForClient();
+        clientContexts.put(key, new CachedContext(sslContext, fileVersions));
+        return sslContext;
+    }
+
+    private static long lastModified(File file) {
+        return file == null ? 0 : file.lastModified();
+    }
+
+    private static String[] nullToEmpty(String[] values) {
+        return values == null ? new String[0] : values;
+    }
+
+    private static final class CachedContext {
+
+        private final SslContext sslContext;
+        private final List<Long> fileVersions;
+
+        private CachedContext(SslContext sslContext, List<Long> fileVersions) {
+            this.sslContext = sslContext;
+            this.fileVersions = fileVersions;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.flow.FlowControlHandler;
 import io.netty.handler.ssl.SslCloseCompletionEvent;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.SslHandshakeCompletionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,21 +34,36 @@ import org.slf4j.LoggerFactory;
  */
 public class SslHandshakeListenerEventHandler extends ChannelInboundHandlerAdapter {
     private TcpListenerHandler tcpListenerHandler;
+    private final TlsStatistics tlsStatistics;
+    private final SessionResumptionDetector resumptionDetector;
+    private long handshakeStartNanos;
     private static final Logger log = LoggerFactory.getLogger(Client.class);
 
-    public SslHandshakeListenerEventHandler(TcpListenerHandler handler) {
+    public SslHandshakeListenerEventHandler(TcpListenerHandler handler, TlsStatistics tlsStatistics,
+                                            SessionResumptionDetector resumptionDetector) {
         tcpListenerHandler = handler;
+        this.tlsStatistics = tlsStatistics;
+        this.resumptionDetector = resumptionDetector;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        handshakeStartNanos = System.nanoTime();
     }
 
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
         if (event instanceof SslHandshakeCompletionEvent) {
             if (((SslHandshakeCompletionEvent) event).isSuccess()) {
+                SslHandler sslHandler = (SslHandler) ctx.pipeline().get(Constants.SSL_HANDLER);
+                tlsStatistics.onHandshakeCompleted(resumptionDetector.isResumed(sslHandler.engine()),
+                        System.nanoTime() - handshakeStartNanos);
                 ctx.pipeline().addLast(Constants.FLOW_CONTROL_HANDLER, new FlowControlHandler());
                 ctx.pipeline().addLast(Constants.LISTENER_HANDLER, tcpListenerHandler);
                 ctx.fireChannelActive();
                 ctx.pipeline().remove(this);
             } else {
+                tlsStatistics.onHandshakeFailed();
                 ctx.close();
             }
         } else if (!(event instanceof SslCloseCompletionEvent)) {
@@ -18,20 +18,22 @@
 
 package io.ballerina.stdlib.tcp;
 
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.netty.bootstrap.Bootstrap;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.RecvByteBufAllocator;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flow.FlowControlHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
-import io.netty.handler.timeout.IdleStateHandler;
 
 import java.net.InetSocketAddress;
 import java.util.concurrent.CompletableFuture;
@@ -44,22 +46,48 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class TcpClient {
 
     private Channel channel;
+    // Kept once the connection is closed as well, since the data received before that is still served to the reads
+    private final TcpClientHandler handler;
+    private final long maxPendingWriteBytes;
 
     public TcpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress, EventLoopGroup group,
-                     CompletableFuture<Object> callback, BMap<BString, Object> secureSocket) {
+                     Transport transport, CompletableFuture<Object> callback, BMap<BString, Object> config) {
+        BMap<BString, Object> secureSocket = (BMap<BString, Object>) config.getMapValue(Constants.SECURE_SOCKET);
+        WriteQueueConfig writeQueueConfig = WriteQueueConfig.fromConfig(config);
+        FrameCodec frameCodec = FrameCodec.fromConfig(config);
+        handler = new TcpClientHandler(writeQueueConfig);
+        maxPendingWriteBytes = getMaxPendingWriteBytes(writeQueueConfig);
         AtomicBoolean isCallbackCompleted = new AtomicBoolean(false);
         Bootstrap clientBootstrap = new Bootstrap();
+        BMap<BString, Object> bufferConfig = (BMap<BString, Object>) config.getMapValue(Constants.BUFFER_CONFIG);
+        if (bufferConfig != null) {
+            clientBootstrap.option(ChannelOption.ALLOCATOR, AllocatorFactory.getAllocator(bufferConfig));
+            RecvByteBufAllocator recvAllocator = AllocatorFactory.getReceiveBufferAllocator(bufferConfig);
+            if (recvAllocator != null) {
+                clientBootstrap.option(ChannelOption.RCVBUF_ALLOCATOR, recvAllocator);
+            }
+        }
+        if (writeQueueConfig.getWaterMark() != null) {
+            clientBootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, writeQueueConfig.getWaterMark());
+        }
         clientBootstrap.group(group)
-                .channel(NioSocketChannel.class)
+                .channel(transport.getChannelClass())
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) throws Exception {
-                        TcpClientHandler tcpClientHandler = new TcpClientHandler();
+                        // The frame codec sits right after the SSL handler, which is added first
+                        if (frameCodec != null) {
+                            frameCodec.addHandlers(ch.pipeline());
+                        }
                         if (secureSocket != null
                                 && secureSocket.getBooleanValue(Constants.SECURESOCKET_CONFIG_ENABLE_SSL)) {
-                            setSSLHandler(ch, secureSocket, tcpClientHandler, callback);
+                            setSSLHandler(ch, remoteAddress, secureSocket, handler, callback);
                         } else {
-                            ch.pipeline().addLast(Constants.CLIENT_HANDLER, tcpClientHandler);
+                            if (frameCodec != null) {
+                                // A single read may decode several frames, which are handed over one per read
+                                ch.pipeline().addLast(Constants.FLOW_CONTROL_HANDLER, new FlowControlHandler());
+                            }
+                            ch.pipeline().addLast(Constants.CLIENT_HANDLER, handler);
                         }
                     }
 
@@ -88,59 +116,89 @@ public class TcpClient {
                 });
     }
 
-    private void setSSLHandler(SocketChannel channel, BMap<BString, Object> secureSocket,
-                               TcpClientHandler tcpClientHandler, CompletableFuture<Object> callback) throws Exception {
+    private void setSSLHandler(SocketChannel channel, InetSocketAddress remoteAddress,
+                               BMap<BString, Object> secureSocket, TcpClientHandler tcpClientHandler,
+                               CompletableFuture<Object> callback) throws Exception {
         SSLConfig sslConfig = Utils.setSslConfig(secureSocket, new SSLConfig(), false);
 
-        SSLHandlerFactory sslHandlerFactory = new SSLHandlerFactory(sslConfig);
-        SslContext sslContext = sslHandlerFactory.createContextForClient();
-        SslHandler sslHandler = sslContext.newHandler(channel.alloc());
+        SslContext sslContext = SslContextCache.getClientContext(sslConfig);
+        // The sessions cached by the shared context are looked up by the peer, so that reconnections resume them
+        SslHandler sslHandler = sslContext.newHandler(channel.alloc(), remoteAddress.getHostString(),
+                remoteAddress.getPort());
         sslHandler.setHandshakeTimeout(sslConfig.getHandshakeTimeOut(), TimeUnit.SECONDS);
         channel.pipeline().addFirst(Constants.SSL_HANDLER, sslHandler);
         channel.pipeline().addLast(Constants.SSL_HANDSHAKE_HANDLER,
                 new SslHandshakeClientEventHandler(tcpClientHandler, callback));
     }
 
-    public void writeData(byte[] bytes, CompletableFuture<Object> callback, double writeTimeoutInSec) {
-        AtomicBoolean futureCompleted = new AtomicBoolean(false);
+    // The write queue holds up to its bound, while without one the writes are kept pending until the channel turns
+    // unwritable
+    private static long getMaxPendingWriteBytes(WriteQueueConfig writeQueueConfig) {
+        if (writeQueueConfig.isBounded()) {
+            return writeQueueConfig.getMaxQueuedBytes();
+        }
+        WriteBufferWaterMark waterMark = writeQueueConfig.getWaterMark();
+        return (waterMark != null ? waterMark : WriteBufferWaterMark.DEFAULT).high();
+    }
+
+    // Number of bytes a writer may keep pending on this client without waiting for the earlier writes to complete
+    public long getMaxPendingWriteBytes() {
+        return maxPendingWriteBytes;
+    }
+
+    public void writeData(BArray content, CompletableFuture<Object> callback, double writeTimeoutInSec) {
         long writeTimeoutInNano = (long) (writeTimeoutInSec * 1_000_000_000);
         if (channel.isActive()) {
-            channel.pipeline().addFirst(Constants.WRITE_TIMEOUT_HANDLER, new IdleStateHandler(0, writeTimeoutInNano, 0,
-                    TimeUnit.NANOSECONDS));
-            WriteFlowController writeFlowController = new WriteFlowController(Unpooled.wrappedBuffer(bytes), callback,
-                    futureCompleted);
-            TcpClientHandler tcpClientHandler = (TcpClientHandler) channel.pipeline().get(Constants.CLIENT_HANDLER);
-            tcpClientHandler.addWriteFlowControl(writeFlowController);
-            tcpClientHandler.setCallback(callback);
-            tcpClientHandler.setWriteFutureCompleted(futureCompleted);
-            if (channel.isWritable()) {
-                writeFlowController.writeData(channel, tcpClientHandler.getWriteFlowControllers());
-            }
+            WriteFlowController writeFlowController = new WriteFlowController(Utils.toByteBuf(content, channel.alloc()),
+                    callback);
+            handler.armTimeout(callback, writeTimeoutInNano, "Write timed out");
+            handler.getWriteQueue().enqueue(writeFlowController, writeTimeoutInNano);
         } else {
             callback.complete(Utils.createTcpError("Socket connection already closed."));
         }
     }
 
-    public void readData(double readTimeoutInSec, CompletableFuture<Object> callback) {
+    /**
+     * Reads the data received from the remote host. A read with a length completes only once exactly that many bytes
+     * are received, while the rest of the received data is kept for the following reads.
+     *
+     * @param readTimeoutInSec the read timeout in seconds
+     * @param length the exact number of bytes to be read, or zero to read whatever data is available
+     * @param target the array to be filled with the data, or null to complete the callback with a new array
+     * @param offset the index of the target array from which the data is filled
+     * @param callback the read callback
+     */
+    public void readData(double readTimeoutInSec, int length, BArray target, int offset,
+                         CompletableFuture<Object> callback) {
         long readTimeoutInNano = (long) (readTimeoutInSec * 1_000_000_000);
-        if (channel.isActive()) {
-            channel.pipeline().addFirst(Constants.READ_TIMEOUT_HANDLER, new IdleStateHandler(readTimeoutInNano, 0, 0,
-                    TimeUnit.NANOSECONDS));
-            TcpClientHandler handler = (TcpClientHandler) channel.pipeline().get(Constants.CLIENT_HANDLER);
-            handler.setCallback(callback);
-            channel.read();
-        } else {
-            callback.complete(Utils.createTcpError("Socket connection already closed."));
-        }
+        handler.armTimeout(callback, readTimeoutInNano, "Read timed out");
+        // The read state and the left over data are only accessed from the event loop. The data left over is served
+        // before checking the connection, so that the data received before the remote host closed it is not lost
+        channel.eventLoop().execute(() -> handler.read(callback, length, target, offset));
+    }
+
+    /**
+     * Reads the next block of a block stream. The callback completes with no data once the connection is closed and
+     * all the received data is consumed.
+     *
+     * @param readTimeoutInSec the read timeout in seconds
+     * @param callback the read callback
+     */
+    public void readBlock(double readTimeoutInSec, CompletableFuture<Object> callback) {
+        handler.armTimeout(callback, (long) (readTimeoutInSec * 1_000_000_000), "Read timed out");
+        // The blocks read ahead before the connection was closed are still served, before the stream ends
+        channel.eventLoop().execute(() -> handler.readBlock(callback));
+    }
+
+    public void setReadAhead(int readAhead) {
+        channel.eventLoop().execute(() -> handler.setReadAhead(readAhead));
     }
 
     public void close(CompletableFuture<Object> callback) {
-        // If channel disconnected already then handler value is null
-        TcpClientHandler handler = (TcpClientHandler) channel.pipeline().get(Constants.CLIENT_HANDLER);
-        if (handler != null) {
-            handler.setIsCloseTriggered();
-        }
+        handler.setIsCloseTriggered();
         channel.close().addListener((ChannelFutureListener) future -> {
+            // The listener runs on the event loop, which owns the data left over
+            handler.releaseCumulation();
             if (future.isSuccess()) {
                 callback.complete(null);
             } else {
@@ -18,15 +18,17 @@
 
 package io.ballerina.stdlib.tcp;
 
+import io.ballerina.runtime.api.values.BArray;
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.handler.timeout.IdleState;
-import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
 
-import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link TcpClientHandler} is a ChannelInboundHandler implementation for tcp client.
@@ -34,49 +36,64 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class TcpClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
     private CompletableFuture<Object> callback;
-    private AtomicBoolean writeFutureCompleted = new AtomicBoolean(false);
+    private int bytesToRead;
+    private BArray readTarget;
+    private int readTargetOffset;
+    private boolean isBlockRead;
+    // The number of reads made ahead of the block reads, and the number of them already received
+    private int readAhead;
+    private int prefetchedReads;
+    // Data received beyond the completed reads, consumed by the following reads
+    private ByteBuf cumulation;
     private boolean isCloseTriggered = false;
-    private LinkedList<WriteFlowController> writeFlowControllers = new LinkedList<>();
+    private final WriteQueueConfig writeQueueConfig;
+    private WriteQueue writeQueue;
+    private EventExecutor executor;
+    private Channel channel;
+
+    public TcpClientHandler(WriteQueueConfig writeQueueConfig) {
+        this.writeQueueConfig = writeQueueConfig;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        writeQueue = new WriteQueue(ctx.channel(), writeQueueConfig);
+        executor = ctx.executor();
+        channel = ctx.channel();
+    }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         if (!isCloseTriggered && callback != null) {
-            callback.complete(Utils.createTcpError("Connection closed by the server."));
+            // A block read completes with no data, which ends the stream of blocks
+            callback.complete(isBlockRead ? null : Utils.createTcpError("Connection closed by the server."));
         }
+        writeQueue.failPendingWrites("Socket connection already closed.");
         ctx.channel().close();
     }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
-        ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
-        if (callback != null) {
-            callback.complete(Utils.returnReadOnlyBytes(msg));
+        if (callback == null || callback.isDone()) {
+            // Data read ahead, or arriving after its read timed out, is kept for the next read
+            cumulate(msg);
+            prefetchedReads++;
+            readAhead();
+            return;
         }
-    }
-
-    @Override
-    public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
-        if (event instanceof IdleStateEvent) {
-            IdleStateEvent evt = (IdleStateEvent) event;
-            if (evt.state() == IdleState.READER_IDLE) {
-                // return read timeout error
-                ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
-                if (callback != null) {
-                    callback.complete(Utils.createTcpError("Read timed out"));
-                }
-            } else if (evt.state() == IdleState.WRITER_IDLE) {
-                ctx.channel().pipeline().remove(Constants.WRITE_TIMEOUT_HANDLER);
-                if (callback != null && !writeFutureCompleted.get()) {
-                    writeFutureCompleted.set(true);
-                    callback.complete(Utils.createTcpError("Write timed out"));
-                }
-            }
+        if (bytesToRead == 0 && cumulation == null) {
+            completeRead(Utils.returnReadOnlyBytes(msg));
+            readAhead();
+            return;
+        }
+        cumulate(msg);
+        if (!tryCompleteRead()) {
+            ctx.read();
         }
     }
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
-        ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
         if (callback != null) {
             callback.complete(Utils.createTcpError(cause.getMessage()));
         }
@@ -84,34 +101,145 @@ public class TcpClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
     @Override
     public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
-        while (writeFlowControllers.size() > 0) {
-            if (ctx.channel().isWritable()) {
-                WriteFlowController writeFlowController = writeFlowControllers.getFirst();
-                if (writeFlowController != null) {
-                    writeFlowController.writeData(ctx.channel(), writeFlowControllers);
-                }
-            }
+        if (ctx.channel().isWritable()) {
+            writeQueue.drain();
         }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    /**
+     * Reads the data of the channel into the given callback. Data left over from the previous reads is consumed
+     * first, and the channel is read only when it does not satisfy the read. Must be invoked from the event loop of the
+     * channel.
+     *
+     * @param callback the read callback
+     * @param length the exact number of bytes to be read, or zero to read whatever data is available
+     * @param target the array to be filled with the data, or null to complete the callback with a new array
+     * @param offset the index of the target array from which the data is filled
+     */
+    public void read(CompletableFuture<Object> callback, int length, BArray target, int offset) {
+        startRead(callback, length, target, offset, false);
+    }
+
+    /**
+     * Reads the next block of a block stream into the given callback. Unlike the other reads, the callback completes
+     * with no data once the connection is closed and all the received data is consumed. Must be invoked from the event
+     * loop of the channel.
+     *
+     * @param callback the read callback
+     */
+    public void readBlock(CompletableFuture<Object> callback) {
+        startRead(callback, 0, null, 0, true);
     }
 
-    public void setCallback(CompletableFuture<Object> callback) {
+    /**
+     * Sets the number of reads made ahead of the block reads, so that the next block is usually received by the time
+     * it is requested. The data read ahead is bounded by this number of receive buffers. Must be invoked from the event
+     * loop of the channel.
+     *
+     * @param readAhead the number of reads to be made ahead, or zero to read only on request
+     */
+    public void setReadAhead(int readAhead) {
+        this.readAhead = readAhead;
+        readAhead();
+    }
+
+    private void startRead(CompletableFuture<Object> callback, int length, BArray target, int offset,
+                           boolean isBlockRead) {
         this.callback = callback;
+        this.bytesToRead = length;
+        this.readTarget = target;
+        this.readTargetOffset = offset;
+        this.isBlockRead = isBlockRead;
+        if (tryCompleteRead()) {
+            return;
+        }
+        if (channel.isActive()) {
+            channel.read();
+        } else {
+            completeRead(isBlockRead ? null : Utils.createTcpError("Socket connection already closed."));
+        }
     }
 
-    public void setWriteFutureCompleted(AtomicBoolean writeFutureCompleted) {
-        this.writeFutureCompleted = writeFutureCompleted;
+    // Pending reads are not duplicated by the channel, hence at most one read is outstanding at any time
+    private void readAhead() {
+        if (prefetchedReads < readAhead && channel.isActive()) {
+            channel.read();
+        }
     }
 
-    public void setIsCloseTriggered() {
-        isCloseTriggered = true;
+    private void cumulate(ByteBuf msg) {
+        // The message is released by the parent class once this method returns
+        msg.retain();
+        cumulation = cumulation == null ? msg :
+                ByteToMessageDecoder.MERGE_CUMULATOR.cumulate(channel.alloc(), cumulation, msg);
     }
 
-    public void addWriteFlowControl(WriteFlowController writeFlowController) {
-        writeFlowControllers.addLast(writeFlowController);
+    private boolean tryCompleteRead() {
+        int readableBytes = cumulation == null ? 0 : cumulation.readableBytes();
+        if (readableBytes == 0 || readableBytes < bytesToRead) {
+            return false;
+        }
+        Object result;
+        if (readTarget != null) {
+            cumulation.readBytes(readTarget.getByteArray(), readTargetOffset, bytesToRead);
+            result = null;
+        } else if (bytesToRead == 0) {
+            result = Utils.returnReadOnlyBytes(cumulation);
+        } else {
+            result = Utils.returnReadOnlyBytes(cumulation, bytesToRead);
+        }
+        if (!cumulation.isReadable()) {
+            cumulation.release();
+            cumulation = null;
+            prefetchedReads = 0;
+        }
+        completeRead(result);
+        readAhead();
+        return true;
+    }
+
+    private void completeRead(Object result) {
+        CompletableFuture<Object> readCallback = callback;
+        callback = null;
+        readTarget = null;
+        readCallback.complete(result);
+    }
+
+    /**
+     * Completes the given callback with an error if it is not completed within the timeout. The deadline is armed on
+     * the timer of the channel event loop and disarmed as soon as the callback completes, without changing the
+     * pipeline.
+     *
+     * @param callback the read or write callback
+     * @param timeoutInNanos the timeout in nanoseconds
+     * @param message the error message used when the timeout expires
+     */
+    public void armTimeout(CompletableFuture<Object> callback, long timeoutInNanos, String message) {
+        ScheduledFuture<?> timeout = executor.schedule(() -> {
+            callback.complete(Utils.createTcpError(message));
+        }, timeoutInNanos, TimeUnit.NANOSECONDS);
+        callback.whenComplete((result, throwable) -> timeout.cancel(false));
+    }
+
+    /**
+     * Releases the data left over from the reads. The data is kept after the remote host closes the connection, so
+     * that the following reads consume it, and is released once it is consumed or the client is closed. Must be
+     * invoked from the event loop of the channel.
+     */
+    public void releaseCumulation() {
+        if (cumulation != null) {
+            cumulation.release();
+            cumulation = null;
+        }
+    }
+
+    public void setIsCloseTriggered() {
+        isCloseTriggered = true;
     }
 
-    public LinkedList<WriteFlowController> getWriteFlowControllers() {
-        return writeFlowControllers;
+    public WriteQueue getWriteQueue() {
+        return writeQueue;
     }
 }
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link TcpConnection} holds the state of a connection accepted by a listener. Every accepted channel has its own
+ * instance stored as a channel attribute, so that the connections sharing a {@link TcpService} never see each
+ * other's connection service, caller or counters.
+ */
+public class TcpConnection {
+
+    private static final AttributeKey<TcpConnection> CONNECTION = AttributeKey.valueOf("tcpConnection");
+
+    private final Channel channel;
+    private final TcpService tcpService;
+    private final Executor dispatchExecutor;
+    // Zero leaves the number of onBytes calls in progress unbounded
+    private final int maxInFlightOnBytes;
+    private final AtomicInteger inFlightOnBytes = new AtomicInteger(0);
+    private final Runnable onBytesCompletion = this::onBytesCompleted;
+    private volatile BObject caller;
+    private volatile BObject connectionService;
+    private volatile ConnectionServiceType connectionServiceType;
+    private volatile boolean isCallerClosed;
+
+    private TcpConnection(Channel channel, TcpService tcpService, boolean isOrderedDispatch, int maxInFlightOnBytes) {
+        this.channel = channel;
+        this.tcpService = tcpService;
+        this.dispatchExecutor = isOrderedDispatch ? new DispatchQueue() : Dispatcher.CONCURRENT_EXECUTOR;
+        this.maxInFlightOnBytes = maxInFlightOnBytes;
+    }
+
+    public static TcpConnection create(Channel channel, TcpService tcpService, boolean isOrderedDispatch,
+                                       int maxInFlightOnBytes) {
+        TcpConnection connection = new TcpConnection(channel, tcpService, isOrderedDispatch, maxInFlightOnBytes);
+        channel.attr(CONNECTION).set(connection);
+        return connection;
+    }
+
+    public static TcpConnection get(Channel channel) {
+        return channel.attr(CONNECTION).get();
+    }
+
+    public Channel getChannel() {
+        return channel;
+    }
+
+    public TcpService getTcpService() {
+        return tcpService;
+    }
+
+    public Executor getDispatchExecutor() {
+        return dispatchExecutor;
+    }
+
+    // The caller is created once for the onConnect call and passed to every later call of the connection
+    public BObject getCaller() {
+        return caller;
+    }
+
+    public void setCaller(BObject caller) {
+        this.caller = caller;
+    }
+
+    public void setConnectionService(BObject connectionService) {
+        this.connectionServiceType = tcpService.getConnectionServiceType(connectionService);
+        this.connectionService = connectionService;
+    }
+
+    public BObject getConnectionService() {
+        return connectionService;
+    }
+
+    public ConnectionServiceType getConnectionServiceType() {
+        return connectionServiceType;
+    }
+
+    public boolean getIsCallerClosed() {
+        return isCallerClosed;
+    }
+
+    public void setIsCallerClosed(boolean callerClosed) {
+        isCallerClosed = callerClosed;
+    }
+
+    // Must be invoked from the event loop for each onBytes call dispatched
+    public void onBytesDispatched() {
+        if (maxInFlightOnBytes > 0 && inFlightOnBytes.incrementAndGet() >= maxInFlightOnBytes) {
+            // Stops reading from the socket, so that TCP flow control pushes back on the sender
+            TcpListener.pauseRead(channel);
+        }
+    }
+
+    public Runnable getOnBytesCompletion() {
+        return onBytesCompletion;
+    }
+
+    private void onBytesCompleted() {
+        if (maxInFlightOnBytes > 0 && inFlightOnBytes.decrementAndGet() == maxInFlightOnBytes - 1) {
+            channel.eventLoop().execute(this::updateAutoRead);
+        }
+    }
+
+    // Both pausing and resuming are decided on the event loop against the latest count, so that a completion racing
+    // with a read cannot leave the reads paused
+    private void updateAutoRead() {
+        if (inFlightOnBytes.get() < maxInFlightOnBytes) {
+            TcpListener.resumeRead(channel);
+        }
+    }
+}
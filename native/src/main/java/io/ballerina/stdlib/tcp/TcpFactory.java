@@ -21,24 +21,40 @@ package io.ballerina.stdlib.tcp;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link TcpFactory} creates {@link TcpClient}.
  */
 public class TcpFactory {
 
+    private static final Logger log = LoggerFactory.getLogger(TcpFactory.class);
     private static volatile TcpFactory tcpFactory;
+    private static volatile String transportMode = Constants.TRANSPORT_AUTO;
+    private final int totalNumberOfProcessors = Runtime.getRuntime().availableProcessors();
+    private final Transport transport;
     private final EventLoopGroup bossGroup;
     private final EventLoopGroup workerGroup;
+    private final EventLoopGroup clientGroup;
+    private final Map<String, EventLoopGroups> namedGroups = new ConcurrentHashMap<>();
 
     private TcpFactory() {
-        int totalNumberOfProcessors = Runtime.getRuntime().availableProcessors();
-        bossGroup = new NioEventLoopGroup(totalNumberOfProcessors);
-        workerGroup = new NioEventLoopGroup(totalNumberOfProcessors * 2);
+        transport = Transport.resolve(transportMode);
+        bossGroup = transport.createEventLoopGroup(totalNumberOfProcessors);
+        workerGroup = transport.createEventLoopGroup(totalNumberOfProcessors * 2);
+        // Outbound clients use their own loops so that they cannot starve the inbound connections
+        clientGroup = transport.createEventLoopGroup(totalNumberOfProcessors);
+    }
+
+    // Invoked from the module init with the value of the `transport` configurable
+    public static void setTransport(BString transport) {
+        transportMode = transport.getValue();
     }
 
     public static TcpFactory getInstance() {
@@ -49,14 +65,71 @@ public class TcpFactory {
     }
 
     public TcpClient createTcpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress,
-                                     CompletableFuture<Object> callback, BMap<BString, Object> secureSocket) {
-        return new TcpClient(localAddress, remoteAddress, workerGroup, callback, secureSocket);
+                                     CompletableFuture<Object> callback, BMap<BString, Object> config) {
+        BMap<BString, Object> eventLoopConfig = (BMap<BString, Object>) config.getMapValue(Constants.EVENT_LOOP);
+        EventLoopGroup group = eventLoopConfig == null ? clientGroup : getNamedGroups(eventLoopConfig, 1).workerGroup;
+        return new TcpClient(localAddress, remoteAddress, group, transport, callback, config);
     }
 
     public TcpListener createTcpListener(InetSocketAddress localAddress,
                                          CompletableFuture<Object> callback, TcpService tcpService,
-                                         BMap<BString, Object> secureSocket) {
-        return new TcpListener(localAddress, bossGroup, workerGroup, callback, tcpService,
-                secureSocket);
+                                         BMap<BString, Object> config) {
+        BMap<BString, Object> eventLoopConfig = (BMap<BString, Object>) config.getMapValue(Constants.EVENT_LOOP);
+        if (eventLoopConfig == null) {
+            return new TcpListener(localAddress, bossGroup, workerGroup, transport, callback, tcpService, config);
+        }
+        // Invalid acceptor counts are rejected by the listener itself
+        int acceptors = transport == Transport.EPOLL
+                ? Math.max(config.getIntValue(Constants.CONFIG_ACCEPTORS).intValue(), 1) : 1;
+        EventLoopGroups groups = getNamedGroups(eventLoopConfig, acceptors);
+        return new TcpListener(localAddress, groups.bossGroup, groups.workerGroup, transport, callback, tcpService,
+                config);
+    }
+
+    // Named groups are created by the first listener or client referring to them and are shared afterwards. Like the
+    // default groups, they live as long as the process, so that listeners and clients created later with the same
+    // name keep sharing them. Unless set, the acceptor thread count follows the acceptors of the listener creating the
+    // group, so that each of its server channels gets an event loop of its own.
+    private EventLoopGroups getNamedGroups(BMap<BString, Object> eventLoopConfig, int acceptors) {
+        String name = eventLoopConfig.getStringValue(Constants.EVENT_LOOP_NAME).getValue();
+        int acceptorThreads = getThreadCount(eventLoopConfig, Constants.EVENT_LOOP_ACCEPTOR_THREADS);
+        int ioThreads = getThreadCount(eventLoopConfig, Constants.EVENT_LOOP_IO_THREADS);
+        EventLoopGroups groups = namedGroups.computeIfAbsent(name, key -> {
+            int groupAcceptorThreads = acceptorThreads > 0 ? acceptorThreads : acceptors;
+            int groupIoThreads = ioThreads > 0 ? ioThreads : totalNumberOfProcessors * 2;
+            return new EventLoopGroups(transport.createEventLoopGroup(groupAcceptorThreads),
+                    transport.createEventLoopGroup(groupIoThreads), groupAcceptorThreads, groupIoThreads);
+        });
+        // Only the thread counts set by the caller can conflict with the existing group
+        if ((acceptorThreads > 0 && acceptorThreads != groups.acceptorThreads)
+                || (ioThreads > 0 && ioThreads != groups.ioThreads)) {
+            log.warn("Event loop group '{}' already exists with {} acceptor and {} I/O threads, ignoring the " +
+                    "requested thread counts.", name, groups.acceptorThreads, groups.ioThreads);
+        }
+        if (acceptors > groups.acceptorThreads) {
+            log.warn("Event loop group '{}' has {} acceptor threads for {} acceptors, some of the acceptors will " +
+                    "share a thread.", name, groups.acceptorThreads, acceptors);
+        }
+        return groups;
+    }
+
+    // Returns the thread count set in the configuration, or 0 if it is not set
+    private static int getThreadCount(BMap<BString, Object> eventLoopConfig, BString key) {
+        int threadCount = eventLoopConfig.containsKey(key) ? eventLoopConfig.getIntValue(key).intValue() : 0;
+        return Math.max(threadCount, 0);
+    }
+
+    private static class EventLoopGroups {
+        private final EventLoopGroup bossGroup;
+        private final EventLoopGroup workerGroup;
+        private final int acceptorThreads;
+        private final int ioThreads;
+
+        EventLoopGroups(EventLoopGroup bossGroup, EventLoopGroup workerGroup, int acceptorThreads, int ioThreads) {
+            this.bossGroup = bossGroup;
+            this.workerGroup = workerGroup;
+            this.acceptorThreads = acceptorThreads;
+            this.ioThreads = ioThreads;
+        }
     }
 }
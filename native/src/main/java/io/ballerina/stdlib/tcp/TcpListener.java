@@ -18,23 +18,37 @@
 
 package io.ballerina.stdlib.tcp;
 
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.RecvByteBufAllocator;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.ChannelGroupFutureListener;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.ssl.OpenSslSessionContext;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -43,24 +57,39 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class TcpListener {
 
-    private Channel channel;
+    private static final Logger log = LoggerFactory.getLogger(TcpListener.class);
+
+    private final ChannelGroup serverChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     private final EventLoopGroup bossGroup;
     private final EventLoopGroup workerGroup;
     private SslContext sslContext;
+    private SessionResumptionDetector resumptionDetector;
+    private final TlsStatistics tlsStatistics = new TlsStatistics();
+    private volatile ScheduledFuture<?> ticketKeyRotation;
+    private final ThreadPoolExecutor handshakeExecutor;
 
     public TcpListener(InetSocketAddress localAddress, EventLoopGroup bossGroup, EventLoopGroup workerGroup,
-                       CompletableFuture<Object> callback, TcpService tcpService, BMap<BString, Object> secureSocket) {
+                       Transport transport, CompletableFuture<Object> callback, TcpService tcpService,
+                       BMap<BString, Object> config) {
         this.bossGroup = bossGroup;
         this.workerGroup = workerGroup;
+        BMap<BString, Object> secureSocket = (BMap<BString, Object>) config.getMapValue(Constants.SECURE_SOCKET);
+        WriteQueueConfig writeQueueConfig = WriteQueueConfig.fromConfig(config);
+        FrameCodec frameCodec = FrameCodec.fromConfig(config);
+        boolean isOrderedDispatch = Constants.DISPATCH_MODE_ORDERED.equals(
+                config.getStringValue(Constants.CONFIG_DISPATCH_MODE).getValue());
+        int maxInFlightOnBytes = getMaxInFlightOnBytes(config);
+        int acceptors = getAcceptorCount(config, transport);
         AtomicBoolean isCallbackCompleted = new AtomicBoolean(false);
         ServerBootstrap listenerBootstrap = new ServerBootstrap();
 
         listenerBootstrap.group(this.bossGroup, this.workerGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(transport.getServerChannelClass())
                 .handler(new ChannelInitializer<ServerSocketChannel>() {
                     @Override
                     protected void initChannel(ServerSocketChannel channel) throws Exception {
-                        if (secureSocket != null) {
+                        // Acceptors share the context, along with its session cache and ticket keys
+                        if (secureSocket != null && sslContext == null) {
                             sslContext = getSslContext(secureSocket);
                         }
                     }
@@ -75,74 +104,205 @@ public class TcpListener {
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel channel) throws Exception {
-                        TcpListenerHandler tcpListenerHandler = new TcpListenerHandler(tcpService);
+                        TcpConnection connection = TcpConnection.create(channel, tcpService, isOrderedDispatch,
+                                maxInFlightOnBytes);
+                        TcpListenerHandler tcpListenerHandler = new TcpListenerHandler(connection, writeQueueConfig);
+                        // The frame codec sits right after the SSL handler, which is added first
+                        if (frameCodec != null) {
+                            frameCodec.addHandlers(channel.pipeline());
+                        }
                         if (secureSocket != null) {
                             setSslHandler(channel, sslContext, tcpListenerHandler, secureSocket);
                         } else {
                             channel.pipeline().addLast(Constants.LISTENER_HANDLER, tcpListenerHandler);
                         }
                     }
-                })
-                .bind(localAddress)
-                .addListener((ChannelFutureListener) channelFuture -> {
-                    if (channelFuture.isSuccess()) {
-                        channel = channelFuture.channel();
-                        callback.complete(null);
-                    } else {
-                        if (!isCallbackCompleted.get()) {
-                            callback.complete(Utils.createTcpError(String.format("Error initializing the server: %s",
-                                    channelFuture.cause().getMessage())));
-                        }
-                    }
                 });
+
+        BMap<BString, Object> bufferConfig = (BMap<BString, Object>) config.getMapValue(Constants.BUFFER_CONFIG);
+        if (bufferConfig != null) {
+            listenerBootstrap.childOption(ChannelOption.ALLOCATOR, AllocatorFactory.getAllocator(bufferConfig));
+            RecvByteBufAllocator recvAllocator = AllocatorFactory.getReceiveBufferAllocator(bufferConfig);
+            if (recvAllocator != null) {
+                listenerBootstrap.childOption(ChannelOption.RCVBUF_ALLOCATOR, recvAllocator);
+            }
+        }
+        if (writeQueueConfig.getWaterMark() != null) {
+            listenerBootstrap.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, writeQueueConfig.getWaterMark());
+        }
+        if (acceptors > 1) {
+            listenerBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+        // Created once the configurations are validated, so that an invalid one does not leave its threads behind
+        this.handshakeExecutor = secureSocket != null ? createHandshakeExecutor(secureSocket) : null;
+        tlsStatistics.setHandshakeExecutor(handshakeExecutor);
+        ChannelFutureListener bindListener = channelFuture -> {
+            if (channelFuture.isSuccess()) {
+                serverChannels.add(channelFuture.channel());
+                if (isCallbackCompleted.get()) {
+                    // Another acceptor has failed and the group may already be closed, hence it is closed by itself
+                    channelFuture.channel().close();
+                } else if (serverChannels.size() == acceptors) {
+                    callback.complete(null);
+                }
+            } else {
+                if (!isCallbackCompleted.getAndSet(true)) {
+                    callback.complete(Utils.createTcpError(String.format("Error initializing the server: %s",
+                            channelFuture.cause().getMessage())));
+                }
+                stopTlsTasks();
+                serverChannels.close();
+            }
+        };
+        listenerBootstrap.bind(localAddress).addListener((ChannelFutureListener) channelFuture -> {
+            bindListener.operationComplete(channelFuture);
+            if (channelFuture.isSuccess() && !isCallbackCompleted.get()) {
+                // Remaining acceptors bind to the resolved address, so that an ephemeral port is shared as well
+                InetSocketAddress boundAddress = (InetSocketAddress) channelFuture.channel().localAddress();
+                for (int i = 1; i < acceptors; i++) {
+                    listenerBootstrap.bind(boundAddress).addListener(bindListener);
+                }
+            }
+        });
+    }
+
+    // SO_REUSEPORT based multiple acceptors are only supported by the epoll transport
+    private static int getAcceptorCount(BMap<BString, Object> config, Transport transport) {
+        int acceptors = config.getIntValue(Constants.CONFIG_ACCEPTORS).intValue();
+        if (acceptors <= 0) {
+            throw new IllegalArgumentException("acceptors must be a positive value");
+        }
+        if (acceptors > 1 && transport != Transport.EPOLL) {
+            log.warn("Multiple acceptors require the epoll transport, binding a single acceptor instead.");
+            return 1;
+        }
+        return acceptors;
+    }
+
+    private static int getMaxInFlightOnBytes(BMap<BString, Object> config) {
+        if (!config.containsKey(Constants.CONFIG_MAX_IN_FLIGHT_ON_BYTES)) {
+            return 0;
+        }
+        int maxInFlightOnBytes = config.getIntValue(Constants.CONFIG_MAX_IN_FLIGHT_ON_BYTES).intValue();
+        if (maxInFlightOnBytes <= 0) {
+            throw new IllegalArgumentException("maxInFlightOnBytes must be a positive value");
+        }
+        return maxInFlightOnBytes;
+    }
+
+    /**
+     * Creates the executor running the delegated tasks of the SSL engines, such as verifying certificates and computing
+     * the key exchange, so that a burst of handshakes does not hold up the connections sharing the event loops. Once
+     * its queue is full, the tasks run on the event loop of their connection as they do without the executor.
+     *
+     * @param secureSocket secure socket configurations
+     * @return the handshake executor or null if it is not configured
+     */
+    private static ThreadPoolExecutor createHandshakeExecutor(BMap<BString, Object> secureSocket) {
+        if (!secureSocket.containsKey(Constants.SECURESOCKET_CONFIG_HANDSHAKE_EXECUTOR)) {
+            return null;
+        }
+        BMap<BString, Object> executorConfig =
+                (BMap<BString, Object>) secureSocket.getMapValue(Constants.SECURESOCKET_CONFIG_HANDSHAKE_EXECUTOR);
+        int threads = executorConfig.getIntValue(Constants.HANDSHAKE_EXECUTOR_THREADS).intValue();
+        int maxQueuedTasks = executorConfig.getIntValue(Constants.HANDSHAKE_EXECUTOR_MAX_QUEUED_TASKS).intValue();
+        if (threads <= 0) {
+            throw new IllegalArgumentException("handshakeExecutor threads must be a positive value");
+        }
+        if (maxQueuedTasks <= 0) {
+            throw new IllegalArgumentException("handshakeExecutor maxQueuedTasks must be a positive value");
+        }
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxQueuedTasks), new DefaultThreadFactory("tcp-tls-handshake", true),
+                // Rejected tasks run on the event loop, even once the executor is shut down with the listener
+                (task, executor) -> task.run());
     }
 
     private SslContext getSslContext(BMap<BString, Object> secureSocket) throws Exception {
         SSLConfig sslConfig = Utils.setSslConfig(secureSocket, new SSLConfig(), true);
 
         SSLHandlerFactory sslHandlerFactory = new SSLHandlerFactory(sslConfig);
-        return sslHandlerFactory.createContextForServer();
+        SslContext serverContext = sslHandlerFactory.createContextForServer();
+        configureSessionTickets(serverContext, secureSocket);
+        resumptionDetector = new SessionResumptionDetector(serverContext.sessionContext().getSessionCacheSize());
+        return serverContext;
+    }
+
+    private void configureSessionTickets(SslContext serverContext, BMap<BString, Object> secureSocket) {
+        if (!secureSocket.containsKey(Constants.SECURESOCKET_CONFIG_SESSION_TICKETS)) {
+            return;
+        }
+        BMap<BString, Object> sessionTickets =
+                (BMap<BString, Object>) secureSocket.getMapValue(Constants.SECURESOCKET_CONFIG_SESSION_TICKETS);
+        long rotationIntervalInMillis = (long) (((BDecimal) sessionTickets.get(
+                Constants.SESSION_TICKETS_KEY_ROTATION_INTERVAL)).floatValue() * 1000);
+        if (rotationIntervalInMillis <= 0) {
+            throw new IllegalArgumentException("keyRotationInterval must be a positive value");
+        }
+        if (!sessionTickets.getBooleanValue(Constants.SESSION_TICKETS_ENABLE)) {
+            return;
+        }
+        if (!(serverContext.sessionContext() instanceof OpenSslSessionContext)) {
+            log.warn("Session ticket keys can only be configured with the OpenSSL provider, the JDK provider issues "
+                    + "the session tickets with keys of its own.");
+            return;
+        }
+        SessionTicketKeyRotator rotator =
+                new SessionTicketKeyRotator((OpenSslSessionContext) serverContext.sessionContext());
+        rotator.run();
+        ticketKeyRotation = workerGroup.next().scheduleAtFixedRate(rotator, rotationIntervalInMillis,
+                rotationIntervalInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Invoked once the listener is closed, or fails to bind, since the tasks would otherwise outlive it
+    private void stopTlsTasks() {
+        if (ticketKeyRotation != null) {
+            ticketKeyRotation.cancel(false);
+        }
+        if (handshakeExecutor != null) {
+            handshakeExecutor.shutdown();
+        }
+    }
+
+    public TlsStatistics getTlsStatistics() {
+        return tlsStatistics;
     }
 
     private void setSslHandler(Channel channel, SslContext sslContext, TcpListenerHandler tcpListenerHandler,
                                BMap<BString, Object> secureSocket) {
-        SslHandler sslHandler = sslContext.newHandler(channel.alloc());
+        SslHandler sslHandler = handshakeExecutor != null ?
+                sslContext.newHandler(channel.alloc(), handshakeExecutor) : sslContext.newHandler(channel.alloc());
         sslHandler.setHandshakeTimeout(Utils.getLongValueOrDefault(secureSocket,
                 Constants.SECURESOCKET_CONFIG_HANDSHAKE_TIMEOUT), TimeUnit.SECONDS);
         channel.pipeline().addFirst(Constants.SSL_HANDLER, sslHandler);
         channel.pipeline().addLast(Constants.SSL_HANDSHAKE_HANDLER,
-                new SslHandshakeListenerEventHandler(tcpListenerHandler));
+                new SslHandshakeListenerEventHandler(tcpListenerHandler, tlsStatistics, resumptionDetector));
     }
 
     // Invoke when the caller call writeBytes
-    public static void send(byte[] bytes, Channel channel, CompletableFuture<Object> callback, TcpService tcpService) {
-        if (!tcpService.getIsCallerClosed() && channel.isActive()) {
-            WriteFlowController writeFlowController = new WriteFlowController(Unpooled.wrappedBuffer(bytes), callback,
-                    new AtomicBoolean(false));
+    public static void send(BArray content, Channel channel, CompletableFuture<Object> callback) {
+        if (!TcpConnection.get(channel).getIsCallerClosed() && channel.isActive()) {
+            WriteFlowController writeFlowController = new WriteFlowController(
+                    Utils.toByteBuf(content, channel.alloc()), callback);
             TcpListenerHandler tcpListenerHandler = (TcpListenerHandler) channel.pipeline()
                     .get(Constants.LISTENER_HANDLER);
-            tcpListenerHandler.addWriteFlowControl(writeFlowController);
-            if (channel.isWritable()) {
-                writeFlowController.writeData(channel, tcpListenerHandler.getWriteFlowControllers());
-            }
+            tcpListenerHandler.getWriteQueue().enqueue(writeFlowController);
         } else {
             callback.complete(Utils.createTcpError("Socket connection already closed."));
         }
     }
 
     // Invoke when the listener onBytes return readonly & byte[]
-    public static void send(byte[] bytes, Channel channel, TcpService tcpService) {
-        if (!tcpService.getIsCallerClosed() && channel.isActive()) {
-            WriteFlowController writeFlowController = new WriteFlowControllerService(Unpooled.wrappedBuffer(bytes),
-                    tcpService);
+    public static void send(BArray content, TcpConnection connection) {
+        Channel channel = connection.getChannel();
+        if (!connection.getIsCallerClosed() && channel.isActive()) {
+            WriteFlowController writeFlowController = new WriteFlowControllerService(
+                    Utils.toByteBuf(content, channel.alloc()), connection);
             TcpListenerHandler tcpListenerHandler = (TcpListenerHandler) channel
                     .pipeline().get(Constants.LISTENER_HANDLER);
-            tcpListenerHandler.addWriteFlowControl(writeFlowController);
-            if (channel.isWritable()) {
-                writeFlowController.writeData(channel, tcpListenerHandler.getWriteFlowControllers());
-            }
+            tcpListenerHandler.getWriteQueue().enqueue(writeFlowController);
         } else {
-            Dispatcher.invokeOnError(tcpService, "Socket connection already closed.");
+            Dispatcher.invokeOnError(connection, "Socket connection already closed.");
         }
     }
 
@@ -171,14 +331,13 @@ public class TcpListener {
 
     // Shutdown the server
     public void close(CompletableFuture<Object> callback) {
-        if (channel != null) {
-            channel.close().addListener((ChannelFutureListener) future -> {
-                if (future.isSuccess()) {
-                    callback.complete(null);
-                } else {
-                    callback.complete(Utils.createTcpError("Failed to gracefully shutdown the Listener."));
-                }
-            });
-        }
+        stopTlsTasks();
+        serverChannels.close().addListener((ChannelGroupFutureListener) future -> {
+            if (future.isSuccess()) {
+                callback.complete(null);
+            } else {
+                callback.complete(Utils.createTcpError("Failed to gracefully shutdown the Listener."));
+            }
+        });
     }
 }
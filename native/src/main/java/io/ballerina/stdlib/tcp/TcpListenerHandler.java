@@ -22,59 +22,57 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 
-import java.util.LinkedList;
-
 /**
  * {@link TcpListenerHandler} is a ChannelInboundHandler implementation for tcp listener.
  */
 public class TcpListenerHandler extends SimpleChannelInboundHandler<ByteBuf> {
 
-    private final TcpService tcpService;
-    private LinkedList<WriteFlowController> writeFlowControllers = new LinkedList<>();
+    private final TcpConnection connection;
+    private final WriteQueueConfig writeQueueConfig;
+    private WriteQueue writeQueue;
+
+    public TcpListenerHandler(TcpConnection connection, WriteQueueConfig writeQueueConfig) {
+        this.connection = connection;
+        this.writeQueueConfig = writeQueueConfig;
+    }
 
-    public TcpListenerHandler(TcpService tcpService) {
-        this.tcpService = tcpService;
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        writeQueue = new WriteQueue(ctx.channel(), writeQueueConfig);
     }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        writeQueue.failPendingWrites("Socket connection already closed.");
         ctx.channel().close();
-        Dispatcher.invokeOnClose(tcpService);
+        Dispatcher.invokeOnClose(connection);
     }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
-        Dispatcher.invokeRead(tcpService, msg, ctx.channel());
+        Dispatcher.invokeRead(connection, msg);
     }
 
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
         TcpListener.pauseRead(ctx.channel());
-        Dispatcher.invokeOnConnect(tcpService, ctx.channel());
+        Dispatcher.invokeOnConnect(connection);
     }
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
-        Dispatcher.invokeOnError(tcpService, cause.getMessage());
+        Dispatcher.invokeOnError(connection, cause.getMessage());
     }
 
     @Override
     public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
-        while (writeFlowControllers.size() > 0) {
-            if (ctx.channel().isWritable()) {
-                WriteFlowController writeFlowController = writeFlowControllers.getFirst();
-                if (writeFlowController != null) {
-                    writeFlowController.writeData(ctx.channel(), writeFlowControllers);
-                }
-            }
+        if (ctx.channel().isWritable()) {
+            writeQueue.drain();
         }
+        ctx.fireChannelWritabilityChanged();
     }
 
-    public void addWriteFlowControl(WriteFlowController writeFlowController) {
-        writeFlowControllers.addLast(writeFlowController);
-    }
-
-    public LinkedList<WriteFlowController> getWriteFlowControllers() {
-        return writeFlowControllers;
+    public WriteQueue getWriteQueue() {
+        return writeQueue;
     }
 }
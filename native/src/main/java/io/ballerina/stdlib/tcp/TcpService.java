@@ -19,21 +19,34 @@
 package io.ballerina.stdlib.tcp;
 
 import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BObject;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
- * Represent TcpService which used for invoking service remote methods.
+ * Represent TcpService which used for invoking service remote methods. A TcpService is shared by all the connections
+ * accepted by the listener, while the state of each connection is held by a {@link TcpConnection}.
  */
 public class TcpService {
 
     private final Runtime runtime;
     private final BObject service;
-    private BObject connectionService;
-    private boolean isCallerClosed;
+    private final StrandMetadata onConnectMetadata;
+    // Connection service types are resolved once, as onConnect usually returns objects of the same few types
+    private final Map<ObjectType, ConnectionServiceType> connectionServiceTypes = new ConcurrentHashMap<>();
 
     public TcpService(Runtime runtime, BObject service) {
         this.runtime = runtime;
         this.service = service;
+        this.onConnectMetadata = ConnectionServiceType.getStrandMetadata(getObjectType(service), Constants.ON_CONNECT);
+    }
+
+    private static ObjectType getObjectType(BObject object) {
+        return (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(object));
     }
 
     public Runtime getRuntime() {
@@ -44,19 +57,11 @@ public class TcpService {
         return service;
     }
 
-    public void setConnectionService(BObject connectionService) {
-        this.connectionService = connectionService;
-    }
-
-    public BObject getConnectionService() {
-        return connectionService;
-    }
-
-    public boolean getIsCallerClosed() {
-        return isCallerClosed;
+    public StrandMetadata getOnConnectMetadata() {
+        return onConnectMetadata;
     }
 
-    public void setIsCallerClosed(boolean callerClosed) {
-        isCallerClosed = callerClosed;
+    public ConnectionServiceType getConnectionServiceType(BObject connectionService) {
+        return connectionServiceTypes.computeIfAbsent(getObjectType(connectionService), ConnectionServiceType::new);
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link TlsStatistics} counts the TLS handshakes of a listener and measures their duration. The counters are updated
+ * from the event loops of all the connections, hence they are striped to avoid contending on a single value.
+ */
+public class TlsStatistics {
+
+    private static final String TLS_STATISTICS = "TlsStatistics";
+
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder resumedHandshakes = new LongAdder();
+    private final LongAdder failedHandshakes = new LongAdder();
+    private final LongAdder totalHandshakeNanos = new LongAdder();
+    private final LongAccumulator maxHandshakeNanos = new LongAccumulator(Math::max, 0);
+    private volatile ThreadPoolExecutor handshakeExecutor;
+
+    public void onHandshakeCompleted(boolean isResumed, long durationInNanos) {
+        handshakes.increment();
+        if (isResumed) {
+            resumedHandshakes.increment();
+        }
+        totalHandshakeNanos.add(durationInNanos);
+        maxHandshakeNanos.accumulate(durationInNanos);
+    }
+
+    // The handshake tasks waiting in the queue of this executor are reported along with the counters
+    public void setHandshakeExecutor(ThreadPoolExecutor handshakeExecutor) {
+        this.handshakeExecutor = handshakeExecutor;
+    }
+
+    public void onHandshakeFailed() {
+        failedHandshakes.increment();
+    }
+
+    public BMap<BString, Object> toRecord() {
+        long completedHandshakes = handshakes.sum();
+        long averageHandshakeNanos = completedHandshakes == 0 ? 0 : totalHandshakeNanos.sum() / completedHandshakes;
+        ThreadPoolExecutor executor = handshakeExecutor;
+        Map<String, Object> values = new HashMap<>();
+        values.put("handshakes", completedHandshakes);
+        values.put("resumedHandshakes", resumedHandshakes.sum());
+        values.put("failedHandshakes", failedHandshakes.sum());
+        values.put("averageHandshakeTime", toSeconds(averageHandshakeNanos));
+        values.put("maxHandshakeTime", toSeconds(maxHandshakeNanos.get()));
+        values.put("queuedHandshakeTasks", executor == null ? 0L : (long) executor.getQueue().size());
+        return ValueCreator.createRecordValue(Utils.getTcpPackage(), TLS_STATISTICS, values);
+    }
+
+    private static Object toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos, 9));
+    }
+}
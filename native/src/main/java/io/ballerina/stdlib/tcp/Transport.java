@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Transport} represents the netty I/O transport used to create the event loops and channels.
+ */
+public enum Transport {
+
+    NIO {
+        @Override
+        public EventLoopGroup createEventLoopGroup(int nThreads) {
+            return new NioEventLoopGroup(nThreads);
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getChannelClass() {
+            return NioSocketChannel.class;
+        }
+    },
+
+    EPOLL {
+        @Override
+        public EventLoopGroup createEventLoopGroup(int nThreads) {
+            return new EpollEventLoopGroup(nThreads);
+        }
+
+        @Override
+        public Class<? extends ServerSocketChannel> getServerChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends SocketChannel> getChannelClass() {
+            return EpollSocketChannel.class;
+        }
+    };
+
+    private static final Logger log = LoggerFactory.getLogger(Transport.class);
+
+    public abstract EventLoopGroup createEventLoopGroup(int nThreads);
+
+    public abstract Class<? extends ServerSocketChannel> getServerChannelClass();
+
+    public abstract Class<? extends SocketChannel> getChannelClass();
+
+    /**
+     * Resolves the transport for the configured transport mode. `AUTO` selects epoll when the native library can be
+     * loaded on the current platform, and an explicit `EPOLL` falls back to NIO if it cannot.
+     *
+     * @param mode configured transport mode
+     * @return the transport to be used
+     */
+    public static Transport resolve(String mode) {
+        if (Constants.TRANSPORT_NIO.equals(mode)) {
+            return NIO;
+        }
+        if (Epoll.isAvailable()) {
+            return EPOLL;
+        }
+        if (Constants.TRANSPORT_EPOLL.equals(mode)) {
+            log.warn("Epoll transport is not available, falling back to NIO: {}",
+                    Epoll.unavailabilityCause().getMessage());
+        }
+        return NIO;
+    }
+}
@@ -23,12 +23,17 @@ import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledHeapByteBuf;
 
 import java.io.File;
 import java.util.concurrent.CompletableFuture;
@@ -46,14 +51,62 @@ public class Utils {
     }
 
     public static BError createTcpError(String errMsg) {
-        return ErrorCreator.createError(getTcpPackage(), Constants.ErrorType.Error.errorType(),
+        return createTcpError(Constants.ErrorType.Error, errMsg);
+    }
+
+    public static BError createTcpError(Constants.ErrorType errorType, String errMsg) {
+        return ErrorCreator.createError(getTcpPackage(), errorType.errorType(),
                 StringUtils.fromString(errMsg), null, null);
     }
 
     public static BArray returnReadOnlyBytes(ByteBuf buf) {
-        byte[] byteContent = new byte[buf.readableBytes()];
-        buf.readBytes(byteContent);
-        return ValueCreator.createReadonlyArrayValue(byteContent);
+        return ValueCreator.createReadonlyArrayValue(getBytes(buf));
+    }
+
+    public static BArray returnReadOnlyBytes(ByteBuf buf, int length) {
+        byte[] bytes = ByteBufUtil.getBytes(buf, buf.readerIndex(), length);
+        buf.skipBytes(length);
+        return ValueCreator.createReadonlyArrayValue(bytes);
+    }
+
+    /**
+     * Extracts the readable bytes of the given buffer. The backing array of an unpooled heap buffer which is not
+     * shared and holds exactly the readable bytes is handed over as it is, since it is never recycled once the buffer
+     * is released. Other buffers are copied once, straight from the buffer memory. Socket reads use direct buffers
+     * wherever the platform supports them, hence the array is only handed over for the heap buffers of the unpooled
+     * allocator, filled up to their capacity.
+     *
+     * @param buf the inbound buffer
+     * @return the readable bytes of the buffer
+     */
+    public static byte[] getBytes(ByteBuf buf) {
+        int length = buf.readableBytes();
+        boolean isExclusiveArray = buf instanceof UnpooledHeapByteBuf && buf.refCnt() == 1
+                && buf.arrayOffset() == 0 && buf.readerIndex() == 0 && buf.array().length == length;
+        byte[] bytes = ByteBufUtil.getBytes(buf, buf.readerIndex(), length, !isExclusiveArray);
+        buf.skipBytes(length);
+        return bytes;
+    }
+
+    /**
+     * Creates the outbound buffer for the given byte array. Read-only arrays cannot change while they are being
+     * written, so their storage is wrapped as it is. Mutable arrays are copied once into a buffer from the channel
+     * allocator, which is direct when the platform supports it and needs no further copy inside the transport.
+     *
+     * @param content the byte array to be written
+     * @param allocator the allocator of the channel
+     * @return the buffer holding the content
+     */
+    public static ByteBuf toByteBuf(BArray content, ByteBufAllocator allocator) {
+        int length = content.size();
+        if (length == 0) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+        byte[] storage = content.getByteArray();
+        if (TypeUtils.getType(content).isReadOnly()) {
+            return Unpooled.wrappedBuffer(storage, 0, length);
+        }
+        return allocator.ioBuffer(length).writeBytes(storage, 0, length);
     }
 
     public static SSLConfig setSslConfig(BMap<BString, Object> secureSocket, SSLConfig sslConfig, boolean isListener)
@@ -162,9 +215,21 @@ public class Utils {
         }
     }
 
-    private static void evaluateCommonFields(BMap<BString, Object> secureSocket, SSLConfig sslConfig) {
+    private static void evaluateCommonFields(BMap<BString, Object> secureSocket, SSLConfig sslConfig)
+            throws Exception {
         sslConfig.setSessionTimeOut((int) getLongValueOrDefault(secureSocket,
                 Constants.SECURESOCKET_CONFIG_SESSION_TIMEOUT));
+        if (secureSocket.containsKey(Constants.SECURESOCKET_CONFIG_SESSION_CACHE_SIZE)) {
+            long sessionCacheSize = secureSocket.getIntValue(Constants.SECURESOCKET_CONFIG_SESSION_CACHE_SIZE);
+            if (sessionCacheSize < 0 || sessionCacheSize > Integer.MAX_VALUE) {
+                throw new Exception("Session cache size must be between 0 and " + Integer.MAX_VALUE);
+            }
+            sslConfig.setSessionCacheSize((int) sessionCacheSize);
+        }
+        if (secureSocket.containsKey(Constants.SECURESOCKET_CONFIG_PROVIDER)) {
+            sslConfig.setOpenSslPreferred(Constants.SSL_PROVIDER_OPENSSL.equals(
+                    secureSocket.getStringValue(Constants.SECURESOCKET_CONFIG_PROVIDER).getValue()));
+        }
         sslConfig.setHandshakeTimeOut(getLongValueOrDefault(secureSocket,
                 Constants.SECURESOCKET_CONFIG_HANDSHAKE_TIMEOUT));
     }
@@ -18,14 +18,13 @@
 
  package io.ballerina.stdlib.tcp;
 
+import io.ballerina.runtime.api.values.BError;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 
-import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * WriteFlowController used to write data via channelPipeline.
@@ -33,40 +32,56 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class WriteFlowController {
     protected ByteBuf sendBuffer;
     private CompletableFuture<Object> balWriteCallback;
-    private AtomicBoolean futureCompleted;
 
-    WriteFlowController(ByteBuf buffer, CompletableFuture<Object> callback, AtomicBoolean futureCompleted) {
+    WriteFlowController(ByteBuf buffer, CompletableFuture<Object> callback) {
         this.balWriteCallback = callback;
         this.sendBuffer = buffer;
-        this.futureCompleted = futureCompleted;
     }
 
     public WriteFlowController(ByteBuf buffer) {
         this.sendBuffer = buffer;
     }
 
-    public synchronized void writeData(Channel channel, LinkedList<WriteFlowController> writeFlowControllers) {
-        channel.writeAndFlush(sendBuffer).addListener((ChannelFutureListener) future -> {
-            if (channel.pipeline().get(Constants.WRITE_TIMEOUT_HANDLER) != null) {
-                channel.pipeline().remove(Constants.WRITE_TIMEOUT_HANDLER);
-            }
-            completeCallback(future);
-        });
-        writeFlowControllers.remove(this);
+    public void writeData(Channel channel, boolean flush) {
+        write(channel, flush).addListener((ChannelFutureListener) future -> completeCallback(future));
+    }
+
+    public int getSize() {
+        return sendBuffer.readableBytes();
+    }
+
+    protected ChannelFuture write(Channel channel, boolean flush) {
+        return flush ? channel.writeAndFlush(sendBuffer) : channel.write(sendBuffer);
+    }
+
+    // A write completed by its timeout while still queued is not written anymore, as the caller was told it failed
+    public boolean isTimedOut() {
+        return balWriteCallback != null && balWriteCallback.isDone();
+    }
+
+    // Invoked when a timed out write is removed from the queue
+    public void discard() {
+        sendBuffer.release();
+    }
+
+    // Invoked when the write is discarded without being written to the channel
+    public void fail(BError error) {
+        sendBuffer.release();
+        balWriteCallback.complete(error);
+    }
+
+    // Invoked when the write is dropped by the overflow policy of a full write queue
+    public void drop() {
+        sendBuffer.release();
+        balWriteCallback.complete(null);
     }
 
     private void completeCallback(ChannelFuture future) {
+        // The callback might have been completed already by the write timeout
         if (future.isSuccess()) {
-            if (!futureCompleted.get()) {
-                futureCompleted.set(true);
-                balWriteCallback.complete(null);
-            }
+            balWriteCallback.complete(null);
         } else {
-            if (!futureCompleted.get()) {
-                futureCompleted.set(true);
-                balWriteCallback.complete(Utils
-                        .createTcpError("Failed to write data: " + future.cause().getMessage()));
-            }
+            balWriteCallback.complete(Utils.createTcpError("Failed to write data: " + future.cause().getMessage()));
         }
     }
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.netty.channel.Channel;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link WriteQueue} holds the pending writes of a channel. Any number of strands can enqueue writes concurrently,
+ * while the writes are only dequeued and written from the event loop of the channel, in the order they were enqueued.
+ * When the queue is bounded, a write which does not fit is blocked, failed or dropped as per the overflow policy.
+ */
+public class WriteQueue {
+
+    private static final int MAX_WRITES_PER_DRAIN = 64;
+    private static final String CONNECTION_CLOSED = "Socket connection already closed.";
+    private static final String WRITE_TIMED_OUT = "Write timed out";
+
+    private final Queue<WriteFlowController> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isDrainScheduled = new AtomicBoolean(false);
+    private final Runnable drainTask = this::drain;
+    private final AtomicLong queuedBytes = new AtomicLong(0);
+    private final AtomicInteger blockedWriters = new AtomicInteger(0);
+    private final ReentrantLock spaceLock = new ReentrantLock();
+    private final Condition spaceAvailable = spaceLock.newCondition();
+    private final Channel channel;
+    private final WriteQueueConfig writeQueueConfig;
+
+    public WriteQueue(Channel channel, WriteQueueConfig writeQueueConfig) {
+        this.channel = channel;
+        this.writeQueueConfig = writeQueueConfig;
+    }
+
+    public void enqueue(WriteFlowController writeFlowController) {
+        enqueue(writeFlowController, 0);
+    }
+
+    /**
+     * Enqueues the given write. A write blocked by a full queue waits for space at most for the given timeout, which is
+     * the one armed on the callback of the write, so that the write is never queued after its timeout has expired.
+     *
+     * @param writeFlowController the write to be enqueued
+     * @param timeoutInNanos the write timeout in nanoseconds, or zero if the write does not time out
+     */
+    public void enqueue(WriteFlowController writeFlowController, long timeoutInNanos) {
+        int size = writeFlowController.getSize();
+        long deadline = timeoutInNanos > 0 ? System.nanoTime() + timeoutInNanos : 0;
+        if (!tryReserve(size) && !handleOverflow(writeFlowController, size, deadline)) {
+            return;
+        }
+        if (writeFlowController.isTimedOut()) {
+            release(size);
+            writeFlowController.discard();
+            return;
+        }
+        pendingWrites.offer(writeFlowController);
+        // A single drain task is scheduled for any number of writes enqueued before it runs
+        if (isDrainScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(drainTask);
+        }
+    }
+
+    // Must be invoked from the event loop of the channel
+    public void failPendingWrites(String message) {
+        WriteFlowController writeFlowController;
+        while ((writeFlowController = pendingWrites.poll()) != null) {
+            release(writeFlowController.getSize());
+            writeFlowController.fail(Utils.createTcpError(message));
+        }
+        // Writers blocked on a closed channel must not wait for space that is never freed
+        signalBlockedWriters();
+    }
+
+    /**
+     * Writes the pending writes until the queue is empty or the channel becomes unwritable. An unwritable channel is
+     * drained again on the next writability change. At most {@link #MAX_WRITES_PER_DRAIN} writes are made in one
+     * run, and the rest are rescheduled, so that a busy channel does not starve the others sharing the event loop.
+     * When write coalescing is enabled, the writes of a run are flushed together, or earlier once the configured
+     * number of bytes is pending. Must be invoked from the event loop of the channel.
+     */
+    public void drain() {
+        isDrainScheduled.set(false);
+        if (!channel.isActive()) {
+            failPendingWrites(CONNECTION_CLOSED);
+            return;
+        }
+        int writes = 0;
+        int unflushedBytes = 0;
+        boolean isWritten = false;
+        while (channel.isWritable() && !pendingWrites.isEmpty()) {
+            if (writes++ == MAX_WRITES_PER_DRAIN) {
+                if (isDrainScheduled.compareAndSet(false, true)) {
+                    channel.eventLoop().execute(drainTask);
+                }
+                break;
+            }
+            unflushedBytes = writeNext(unflushedBytes);
+            isWritten = true;
+        }
+        // Any coalesced write of the run may still be unflushed, including an empty one which adds no bytes
+        if (isWritten && writeQueueConfig.isCoalescingEnabled()) {
+            channel.flush();
+        }
+    }
+
+    // Returns the number of bytes written but not yet flushed
+    private int writeNext(int unflushedBytes) {
+        WriteFlowController writeFlowController = pendingWrites.poll();
+        if (writeFlowController == null) {
+            return unflushedBytes;
+        }
+        int size = writeFlowController.getSize();
+        // Once written, the bytes are held by the channel outbound buffer, which is bounded by the water marks
+        release(size);
+        if (writeFlowController.isTimedOut()) {
+            writeFlowController.discard();
+            return unflushedBytes;
+        }
+        if (!writeQueueConfig.isCoalescingEnabled()) {
+            writeFlowController.writeData(channel, true);
+            return 0;
+        }
+        int pendingBytes = unflushedBytes + size;
+        boolean flush = pendingBytes >= writeQueueConfig.getFlushThreshold();
+        writeFlowController.writeData(channel, flush);
+        return flush ? 0 : pendingBytes;
+    }
+
+    // A write larger than the queue bound is still accepted into an empty queue, so that it can never block forever
+    private boolean tryReserve(int size) {
+        if (!writeQueueConfig.isBounded()) {
+            return true;
+        }
+        long queued;
+        do {
+            queued = queuedBytes.get();
+            if (queued > 0 && queued + size > writeQueueConfig.getMaxQueuedBytes()) {
+                return false;
+            }
+        } while (!queuedBytes.compareAndSet(queued, queued + size));
+        return true;
+    }
+
+    private void release(int size) {
+        if (!writeQueueConfig.isBounded()) {
+            return;
+        }
+        queuedBytes.addAndGet(-size);
+        if (blockedWriters.get() > 0) {
+            signalBlockedWriters();
+        }
+    }
+
+    // Returns true if the write gets space in the queue, otherwise it is completed as per the overflow policy
+    private boolean handleOverflow(WriteFlowController writeFlowController, int size, long deadline) {
+        switch (writeQueueConfig.getOverflowPolicy()) {
+            case BLOCK:
+                // The event loop must never be blocked, since it is the one freeing the space
+                if (!channel.eventLoop().inEventLoop()) {
+                    if (awaitSpace(writeFlowController, size, deadline)) {
+                        return true;
+                    }
+                    writeFlowController.fail(Utils.createTcpError(channel.isActive() ? WRITE_TIMED_OUT :
+                            CONNECTION_CLOSED));
+                    return false;
+                }
+                break;
+            case DROP:
+                writeFlowController.drop();
+                return false;
+            default:
+                break;
+        }
+        writeFlowController.fail(Utils.createTcpError(Constants.ErrorType.BackpressureError,
+                String.format("Write queue is full: %d bytes are already queued on the connection",
+                        queuedBytes.get())));
+        return false;
+    }
+
+    // Returns false if the channel is closed or the write times out before there is space for it
+    private boolean awaitSpace(WriteFlowController writeFlowController, int size, long deadline) {
+        spaceLock.lock();
+        blockedWriters.incrementAndGet();
+        try {
+            // The writer is registered before checking for space, so that a release in between is not missed
+            while (!tryReserve(size)) {
+                if (!channel.isActive() || writeFlowController.isTimedOut()) {
+                    return false;
+                }
+                if (deadline == 0) {
+                    spaceAvailable.await();
+                    continue;
+                }
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                spaceAvailable.awaitNanos(remainingNanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            blockedWriters.decrementAndGet();
+            spaceLock.unlock();
+        }
+    }
+
+    private void signalBlockedWriters() {
+        spaceLock.lock();
+        try {
+            spaceAvailable.signalAll();
+        } finally {
+            spaceLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.tcp;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.channel.WriteBufferWaterMark;
+
+/**
+ * {@link WriteQueueConfig} holds the write queue configurations of a listener or a client, which are resolved once
+ * and shared by all of its connections.
+ */
+public class WriteQueueConfig {
+
+    /**
+     * Action taken when a write does not fit in the outbound queue of a connection.
+     */
+    public enum OverflowPolicy {
+        BLOCK, FAIL, DROP
+    }
+
+    private final int flushThreshold;
+    private final WriteBufferWaterMark waterMark;
+    private final long maxQueuedBytes;
+    private final OverflowPolicy overflowPolicy;
+
+    private WriteQueueConfig(int flushThreshold, WriteBufferWaterMark waterMark, long maxQueuedBytes,
+                             OverflowPolicy overflowPolicy) {
+        this.flushThreshold = flushThreshold;
+        this.waterMark = waterMark;
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public static WriteQueueConfig fromConfig(BMap<BString, Object> config) {
+        BMap<BString, Object> coalescingConfig =
+                (BMap<BString, Object>) config.getMapValue(Constants.CONFIG_WRITE_COALESCING);
+        int flushThreshold = 0;
+        if (coalescingConfig != null) {
+            flushThreshold = coalescingConfig.getIntValue(Constants.WRITE_COALESCING_MAX_PENDING_BYTES).intValue();
+            // Zero is reserved for flushing each write on its own, which is what leaving out the config asks for
+            if (flushThreshold <= 0) {
+                throw new IllegalArgumentException("maxPendingBytes must be a positive value");
+            }
+        }
+        BMap<BString, Object> writeBufferConfig =
+                (BMap<BString, Object>) config.getMapValue(Constants.CONFIG_WRITE_BUFFER);
+        if (writeBufferConfig == null) {
+            return new WriteQueueConfig(flushThreshold, null, 0, OverflowPolicy.FAIL);
+        }
+        // Throws IllegalArgumentException if the low water mark is negative or above the high water mark
+        WriteBufferWaterMark waterMark = new WriteBufferWaterMark(
+                writeBufferConfig.getIntValue(Constants.WRITE_BUFFER_LOW_WATER_MARK).intValue(),
+                writeBufferConfig.getIntValue(Constants.WRITE_BUFFER_HIGH_WATER_MARK).intValue());
+        long maxQueuedBytes = 0;
+        if (writeBufferConfig.containsKey(Constants.WRITE_BUFFER_MAX_QUEUED_BYTES)) {
+            maxQueuedBytes = writeBufferConfig.getIntValue(Constants.WRITE_BUFFER_MAX_QUEUED_BYTES);
+            if (maxQueuedBytes <= 0) {
+                throw new IllegalArgumentException("maxQueuedBytes must be a positive value");
+            }
+        }
+        OverflowPolicy overflowPolicy = OverflowPolicy.valueOf(
+                writeBufferConfig.getStringValue(Constants.WRITE_BUFFER_OVERFLOW_POLICY).getValue());
+        return new WriteQueueConfig(flushThreshold, waterMark, maxQueuedBytes, overflowPolicy);
+    }
+
+    // Number of bytes written before a flush, where zero flushes each write on its own
+    public int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    public boolean isCoalescingEnabled() {
+        return flushThreshold > 0;
+    }
+
+    // Water marks of the channel outbound buffer, or null to use the netty defaults
+    public WriteBufferWaterMark getWaterMark() {
+        return waterMark;
+    }
+
+    // Number of bytes allowed to wait in the write queue, where zero leaves the queue unbounded
+    public long getMaxQueuedBytes() {
+        return maxQueuedBytes;
+    }
+
+    public boolean isBounded() {
+        return maxQueuedBytes > 0;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+}
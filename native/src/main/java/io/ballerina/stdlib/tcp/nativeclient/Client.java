@@ -20,14 +20,17 @@ package io.ballerina.stdlib.tcp.nativeclient;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.tcp.BlockWriter;
 import io.ballerina.stdlib.tcp.Constants;
 import io.ballerina.stdlib.tcp.TcpClient;
 import io.ballerina.stdlib.tcp.TcpFactory;
+import io.ballerina.stdlib.tcp.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,35 +69,98 @@ public final class Client {
             double writeTimeout = ((BDecimal) config.get(StringUtils.fromString(Constants.CONFIG_WRITE_TIMEOUT)))
                     .floatValue();
             client.addNativeData(Constants.CONFIG_WRITE_TIMEOUT, writeTimeout);
-            BMap<BString, Object> secureSocket = (BMap<BString, Object>) config.getMapValue(Constants.SECURE_SOCKET);
-            TcpClient tcpClient = TcpFactory.getInstance().
-                    createTcpClient(localAddress, remoteAddress, balFuture, secureSocket);
+            TcpClient tcpClient;
+            try {
+                tcpClient = TcpFactory.getInstance().createTcpClient(localAddress, remoteAddress, balFuture, config);
+            } catch (IllegalArgumentException e) {
+                return Utils.createTcpError("Invalid client configuration: " + e.getMessage());
+            }
             client.addNativeData(Constants.CLIENT, tcpClient);
             return getResult(balFuture);
         });
     }
 
-    public static Object externReadBytes(Environment env, BObject client) {
+    public static Object externReadBytes(Environment env, BObject client, Object length) {
+        if (length != null && ((long) length <= 0 || (long) length > Integer.MAX_VALUE)) {
+            return Utils.createTcpError("Invalid length: the number of bytes to read must be between 1 and "
+                    + Integer.MAX_VALUE);
+        }
         final CompletableFuture<Object> balFuture = new CompletableFuture<>();
         return env.yieldAndRun(() -> {
             double readTimeOut = (double) client.getNativeData(Constants.CONFIG_READ_TIMEOUT);
             TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
-            tcpClient.readData(readTimeOut, balFuture);
+            tcpClient.readData(readTimeOut, length == null ? 0 : (int) (long) length, null, 0, balFuture);
             return getResult(balFuture);
         });
     }
 
+    public static Object externReadInto(Environment env, BObject client, BArray buffer, long offset,
+                                        Object length) {
+        if (TypeUtils.getType(buffer).isReadOnly()) {
+            return Utils.createTcpError("Cannot read into a read-only array");
+        }
+        long size = buffer.size();
+        long bytesToRead = length == null ? size - offset : (long) length;
+        if (offset < 0 || bytesToRead < 0 || offset + bytesToRead > size) {
+            return Utils.createTcpError(String.format("Invalid offset or length: %d bytes from index %d do not fit "
+                    + "into an array of %d bytes", bytesToRead, offset, size));
+        }
+        if (bytesToRead == 0) {
+            return null;
+        }
+        final CompletableFuture<Object> balFuture = new CompletableFuture<>();
+        return env.yieldAndRun(() -> {
+            double readTimeOut = (double) client.getNativeData(Constants.CONFIG_READ_TIMEOUT);
+            TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+            tcpClient.readData(readTimeOut, (int) bytesToRead, buffer, (int) offset, balFuture);
+            return getResult(balFuture);
+        });
+    }
+
+    public static Object externReadBlock(Environment env, BObject client) {
+        final CompletableFuture<Object> balFuture = new CompletableFuture<>();
+        return env.yieldAndRun(() -> {
+            double readTimeOut = (double) client.getNativeData(Constants.CONFIG_READ_TIMEOUT);
+            TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+            tcpClient.readBlock(readTimeOut, balFuture);
+            return getResult(balFuture);
+        });
+    }
+
+    public static Object externSetReadAhead(BObject client, long readAhead) {
+        if (readAhead < 0 || readAhead > Integer.MAX_VALUE) {
+            return Utils.createTcpError("Invalid read ahead: the number of blocks to read ahead must be between 0 and "
+                    + Integer.MAX_VALUE);
+        }
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        tcpClient.setReadAhead((int) readAhead);
+        return null;
+    }
+
     public static Object externWriteBytes(Environment env, BObject client, BArray content) {
         final CompletableFuture<Object> balFuture = new CompletableFuture<>();
         return env.yieldAndRun(() -> {
             double writeTimeOut = (double) client.getNativeData(Constants.CONFIG_WRITE_TIMEOUT);
-            byte[] byteContent = content.getBytes();
             TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
-            tcpClient.writeData(byteContent, balFuture, writeTimeOut);
+            tcpClient.writeData(content, balFuture, writeTimeOut);
             return getResult(balFuture);
         });
     }
 
+    public static void externInitBlockWriter(BObject blockWriter, BObject client) {
+        double writeTimeOut = (double) client.getNativeData(Constants.CONFIG_WRITE_TIMEOUT);
+        TcpClient tcpClient = (TcpClient) client.getNativeData(Constants.CLIENT);
+        blockWriter.addNativeData(Constants.BLOCK_WRITER, new BlockWriter(tcpClient, writeTimeOut));
+    }
+
+    public static Object externWriteBlock(Environment env, BObject blockWriter, BArray block) {
+        return env.yieldAndRun(() -> ((BlockWriter) blockWriter.getNativeData(Constants.BLOCK_WRITER)).write(block));
+    }
+
+    public static Object externCompleteBlockWrites(Environment env, BObject blockWriter) {
+        return env.yieldAndRun(() -> ((BlockWriter) blockWriter.getNativeData(Constants.BLOCK_WRITER)).complete());
+    }
+
     public static Object externClose(Environment env, BObject client) {
         final CompletableFuture<Object> balFuture = new CompletableFuture<>();
         return env.yieldAndRun(() -> {
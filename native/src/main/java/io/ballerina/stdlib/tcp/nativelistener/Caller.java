@@ -23,8 +23,8 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.tcp.Constants;
 import io.ballerina.stdlib.tcp.Dispatcher;
+import io.ballerina.stdlib.tcp.TcpConnection;
 import io.ballerina.stdlib.tcp.TcpListener;
-import io.ballerina.stdlib.tcp.TcpService;
 import io.ballerina.stdlib.tcp.Utils;
 import io.netty.channel.Channel;
 
@@ -40,10 +40,8 @@ public class Caller {
     public static Object externWriteBytes(Environment env, BObject caller, BArray data) {
         final CompletableFuture<Object> callback = new CompletableFuture<>();
         return env.yieldAndRun(() -> {
-            byte[] byteContent = data.getBytes();
             Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
-            TcpService tcpService = (TcpService) caller.getNativeData(Constants.SERVICE);
-            TcpListener.send(byteContent, channel, callback, tcpService);
+            TcpListener.send(data, channel, callback);
             return getResult(callback);
         });
     }
@@ -52,11 +50,11 @@ public class Caller {
         final CompletableFuture<Object> callback = new CompletableFuture<>();
         return env.yieldAndRun(() -> {
             Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
-            TcpService tcpService = (TcpService) caller.getNativeData(Constants.SERVICE);
-            tcpService.setIsCallerClosed(true);
+            TcpConnection connection = TcpConnection.get(channel);
+            connection.setIsCallerClosed(true);
             try {
                 TcpListener.close(channel, callback);
-                Dispatcher.invokeOnClose(tcpService);
+                Dispatcher.invokeOnClose(connection);
             } catch (Exception e) {
                 callback.complete(Utils.createTcpError(e.getMessage()));
             }
@@ -27,6 +27,7 @@ import io.ballerina.stdlib.tcp.Constants;
 import io.ballerina.stdlib.tcp.TcpFactory;
 import io.ballerina.stdlib.tcp.TcpListener;
 import io.ballerina.stdlib.tcp.TcpService;
+import io.ballerina.stdlib.tcp.TlsStatistics;
 import io.ballerina.stdlib.tcp.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,10 +67,13 @@ public class Listener {
                 String hostname = localHost.getValue();
                 localAddress = new InetSocketAddress(hostname, localPort);
             }
-            BMap<BString, Object> secureSocket = (BMap<BString, Object>) config.getMapValue(Constants.SECURE_SOCKET);
             TcpService tcpService = (TcpService) listener.getNativeData(Constants.SERVICE);
-            TcpListener tcpListener = TcpFactory.getInstance()
-                    .createTcpListener(localAddress, balFuture, tcpService, secureSocket);
+            TcpListener tcpListener;
+            try {
+                tcpListener = TcpFactory.getInstance().createTcpListener(localAddress, balFuture, tcpService, config);
+            } catch (IllegalArgumentException e) {
+                return Utils.createTcpError("Invalid listener configuration: " + e.getMessage());
+            }
             listener.addNativeData(Constants.LISTENER, tcpListener);
             return getResult(balFuture);
         });
@@ -99,5 +103,12 @@ public class Listener {
         });
     }
 
+    public static Object externGetTlsStatistics(BObject listener) {
+        TcpListener tcpListener = (TcpListener) listener.getNativeData(Constants.LISTENER);
+        // A listener which has not started yet has made no handshakes
+        TlsStatistics tlsStatistics = tcpListener != null ? tcpListener.getTlsStatistics() : new TlsStatistics();
+        return tlsStatistics.toRecord();
+    }
+
     private Listener() {}
 }
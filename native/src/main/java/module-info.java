@@ -23,9 +23,12 @@ module io.ballerina.stdlib.tcp {
     requires org.slf4j;
     requires io.netty.transport;
     requires io.netty.handler;
+    requires io.netty.internal.tcnative;
     requires io.netty.buffer;
     requires io.netty.common;
     requires io.netty.codec;
+    requires io.netty.transport.classes.epoll;
+    requires io.netty.transport.unix.common;
     exports io.ballerina.stdlib.tcp.nativeclient;
     exports io.ballerina.stdlib.tcp.nativelistener;
     exports io.ballerina.stdlib.tcp;
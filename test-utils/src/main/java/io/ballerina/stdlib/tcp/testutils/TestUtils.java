@@ -1,8 +1,22 @@
 package io.ballerina.stdlib.tcp.testutils;
 
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.tcp.AllocatorFactory;
+import io.ballerina.stdlib.tcp.Constants;
+import io.ballerina.stdlib.tcp.Transport;
+import io.ballerina.stdlib.tcp.Utils;
+import io.netty.buffer.ByteBuf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -38,4 +52,61 @@ public final class TestUtils {
         return null;
     }
 
+    public static Object startNonReadingServer() {
+        return NonReadingServer.start();
+    }
+
+    public static Object stopNonReadingServer() {
+        return NonReadingServer.stop();
+    }
+
+    public static boolean isEpollTransport() {
+        return Transport.resolve(Constants.TRANSPORT_AUTO) == Transport.EPOLL;
+    }
+
+    // Extracts the data from an inbound heap buffer of the configured allocator, with the given capacity beyond the
+    // data. Returns whether the backing array is handed over instead of copied, or an error if the extracted bytes do
+    // not hold the data once the buffer is released.
+    public static Object isInboundArrayHandedOver(BMap<BString, Object> bufferConfig, BArray data,
+                                                  long spareCapacity) {
+        byte[] expected = Arrays.copyOf(data.getBytes(), data.size());
+        ByteBuf buf = AllocatorFactory.getAllocator(bufferConfig).heapBuffer(
+                expected.length + (int) spareCapacity);
+        buf.writeBytes(expected);
+        byte[] backingArray = buf.array();
+        byte[] bytes = Utils.getBytes(buf);
+        buf.release();
+        if (!Arrays.equals(bytes, expected)) {
+            return Utils.createTcpError("Found unexpected bytes after releasing the buffer");
+        }
+        return bytes == backingArray;
+    }
+
+    // Counts the sockets listening on the port from the kernel socket tables, or returns -1 if they are not available
+    public static long countListeningSockets(long port) {
+        String localPort = String.format(":%04X", port);
+        long count = 0;
+        for (String table : new String[]{"/proc/net/tcp", "/proc/net/tcp6"}) {
+            Path path = Paths.get(table);
+            if (!Files.exists(path)) {
+                continue;
+            }
+            List<String> lines;
+            try {
+                lines = Files.readAllLines(path);
+            } catch (IOException e) {
+                log.error("Failed to read the socket table " + table, e);
+                return -1;
+            }
+            // Each entry lists the local address, the remote address and the state, where 0A is LISTEN
+            for (String line : lines.subList(1, lines.size())) {
+                String[] fields = line.trim().split("\\s+");
+                if (fields[1].endsWith(localPort) && "0A".equals(fields[3])) {
+                    count++;
+                }
+            }
+        }
+        return Files.exists(Paths.get("/proc/net/tcp")) ? count : -1;
+    }
+
 }